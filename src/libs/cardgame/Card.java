@@ -5,20 +5,63 @@ import java.util.Random;
 public class Card {
     private static final int DEFAULT_SHUFFLE_COUNT = 100;
     private static final int CART_COUNT_OF_DEC = 52;
-    private CardType cardType;
-    private CardValue cardValue;
-
-    public static Card [] newDeck() {
+    private static final CardType [] CARD_TYPES = CardType.values();
+    private static final CardValue [] CARD_VALUES = CardValue.values();
+    private static final Card [] DECK = createDeck();
+    private static final byte [] DECK_ORDINALS = createDeckOrdinals();
+    private final CardType cardType;
+    private final CardValue cardValue;
+    private final byte ordinal;
+    private final String name;
+
+    // Cards are interned: the ordinal of a card is its index in the unshuffled deck, type major and value minor
+    private static Card [] createDeck() {
         Card [] deck = new Card[CART_COUNT_OF_DEC];
         int idx = 0;
 
-        for (CardType cardType : CardType.values())
-            for (CardValue cardValue : CardValue.values())
-                deck[idx++] = new Card(cardType, cardValue);
+        for (CardType cardType : CARD_TYPES)
+            for (CardValue cardValue : CARD_VALUES)
+                deck[idx] = new Card(cardType, cardValue, idx++);
 
         return deck;
     }
 
+    private static byte [] createDeckOrdinals() {
+        byte [] ordinals = new byte[CART_COUNT_OF_DEC];
+
+        for (int i = 0; i < ordinals.length; ++i)
+            ordinals[i] = (byte)i;
+
+        return ordinals;
+    }
+
+    static int checkOrdinal(int ordinal) {
+        if (ordinal < 0 || ordinal >= CART_COUNT_OF_DEC)
+            throw new IllegalArgumentException("Card ordinal must be in [0, " + CART_COUNT_OF_DEC + "):" + ordinal);
+
+        return ordinal;
+    }
+
+    public static CardType cardTypeOf(int ordinal) {
+        return CARD_TYPES[checkOrdinal(ordinal) / CARD_VALUES.length];
+    }
+
+    public static CardValue cardValueOf(int ordinal) {
+        return CARD_VALUES[checkOrdinal(ordinal) % CARD_VALUES.length];
+    }
+
+    public static String nameOf(int ordinal) {
+        return of(ordinal).name;
+    }
+
+    public static Card [] newDeck() {
+        return DECK.clone();
+    }
+
+    public static byte [] newDeckOrdinals() {
+        return DECK_ORDINALS.clone();
+    }
+
     public static Card [] newShuffledDeck(Random random) {
         return newShuffledDeck(random, DEFAULT_SHUFFLE_COUNT);
     }
@@ -33,6 +76,56 @@ public class Card {
         return deck;
     }
 
+    // Draws the same swaps as newShuffledDeck, so both forms of a deck agree for equally seeded randoms
+    public static byte [] newShuffledDeckOrdinals(Random random) {
+        return newShuffledDeckOrdinals(random, DEFAULT_SHUFFLE_COUNT);
+    }
+
+    public static byte [] newShuffledDeckOrdinals(Random random, int count) {
+        byte [] deck = newDeckOrdinals();
+
+        for (int i = 0; i < count; ++i) {
+            int k = random.nextInt(deck.length);
+            int j = random.nextInt(deck.length);
+            byte temp = deck[k];
+
+            deck[k] = deck[j];
+            deck[j] = temp;
+        }
+
+        return deck;
+    }
+
+    public static Card of(int ordinal) {
+        return DECK[checkOrdinal(ordinal)];
+    }
+
+    public static Card of(CardType cardType, CardValue cardValue) {
+        return DECK[ordinalOf(cardType, cardValue)];
+    }
+
+    public static int ordinalOf(CardType cardType, CardValue cardValue) {
+        return cardType.ordinal() * CARD_VALUES.length + cardValue.ordinal();
+    }
+
+    public static Card [] toCards(byte [] ordinals) {
+        Card [] cards = new Card[ordinals.length];
+
+        for (int i = 0; i < ordinals.length; ++i)
+            cards[i] = of(ordinals[i]);
+
+        return cards;
+    }
+
+    public static byte [] toOrdinals(Card [] cards) {
+        byte [] ordinals = new byte[cards.length];
+
+        for (int i = 0; i < cards.length; ++i)
+            ordinals[i] = cards[i].ordinal;
+
+        return ordinals;
+    }
+
     private static void swap(Card [] cards, int i, int k) {
         if (i == k)
             return;
@@ -44,29 +137,27 @@ public class Card {
         cards[k] = temp;
     }
 
-    public Card(CardType cardType, CardValue cardValue) {
+    private Card(CardType cardType, CardValue cardValue, int ordinal) {
         this.cardType = cardType;
         this.cardValue = cardValue;
+        this.ordinal = (byte)ordinal;
+        this.name = "%s-%s".formatted(cardType, cardValue);
     }
 
     public CardType getCardType() {
         return cardType;
     }
 
-    public void setCardType(CardType cardType) {
-        this.cardType = cardType;
-    }
-
     public CardValue getCardValue() {
         return cardValue;
     }
 
-    public void setCardValue(CardValue cardValue) {
-        this.cardValue = cardValue;
+    public int getOrdinal() {
+        return ordinal;
     }
 
     @Override
     public String toString() {
-        return "%s-%s".formatted(cardType,cardValue);
+        return name;
     }
 }
@@ -0,0 +1,88 @@
+package libs.cardgame;
+
+// A hand is a long with bit i set when the card with ordinal i is in it
+public final class CardMask {
+    public static final long EMPTY = 0L;
+    public static final long FULL_DECK = (1L << 52) - 1;
+
+    private CardMask() {}
+
+    public static long add(long mask, Card card) {
+        return mask | 1L << card.getOrdinal();
+    }
+
+    public static long add(long mask, int ordinal) {
+        return mask | 1L << Card.checkOrdinal(ordinal);
+    }
+
+    public static boolean contains(long mask, Card card) {
+        return (mask & 1L << card.getOrdinal()) != 0;
+    }
+
+    public static boolean contains(long mask, int ordinal) {
+        return (mask & 1L << Card.checkOrdinal(ordinal)) != 0;
+    }
+
+    public static long of(Card... cards) {
+        long mask = EMPTY;
+
+        for (Card card : cards)
+            mask |= 1L << card.getOrdinal();
+
+        return mask;
+    }
+
+    public static long of(byte [] ordinals, int fromIndex, int toIndex) {
+        long mask = EMPTY;
+
+        for (int i = fromIndex; i < toIndex; ++i)
+            mask = add(mask, ordinals[i]);
+
+        return mask;
+    }
+
+    public static long remove(long mask, Card card) {
+        return mask & ~(1L << card.getOrdinal());
+    }
+
+    public static long remove(long mask, int ordinal) {
+        return mask & ~(1L << Card.checkOrdinal(ordinal));
+    }
+
+    public static int size(long mask) {
+        return Long.bitCount(mask & FULL_DECK);
+    }
+
+    public static Card [] toCards(long mask) {
+        Card [] cards = new Card[size(mask)];
+        int idx = 0;
+
+        for (long rest = mask & FULL_DECK; rest != 0; rest &= rest - 1)
+            cards[idx++] = Card.of(Long.numberOfTrailingZeros(rest));
+
+        return cards;
+    }
+
+    // Writes the ordinals of the hand in ascending order and returns how many were written
+    public static int toOrdinals(long mask, byte [] ordinals) {
+        int idx = 0;
+
+        for (long rest = mask & FULL_DECK; rest != 0; rest &= rest - 1)
+            ordinals[idx++] = (byte)Long.numberOfTrailingZeros(rest);
+
+        return idx;
+    }
+
+    public static String toString(long mask) {
+        StringBuilder sb = new StringBuilder("[");
+
+        for (long rest = mask & FULL_DECK; rest != 0; rest &= rest - 1) {
+            if (sb.length() > 1)
+                sb.append(", ");
+
+            sb.append(Card.nameOf(Long.numberOfTrailingZeros(rest)));
+        }
+
+        return sb.append(']').toString();
+    }
+}
@@ -12,6 +12,13 @@ public class RandomCardGenerator {
     }
 
     public Card create() {
-        return new Card(CARD_TYPES[m_random.nextInt(CARD_TYPES.length)], CARD_VALUES[m_random.nextInt(CARD_VALUES.length)]);
+        return Card.of(CARD_TYPES[m_random.nextInt(CARD_TYPES.length)], CARD_VALUES[m_random.nextInt(CARD_VALUES.length)]);
+    }
+
+    // Same draws as create, returned as the card ordinal
+    public int createOrdinal() {
+        int cardType = m_random.nextInt(CARD_TYPES.length);
+
+        return cardType * CARD_VALUES.length + m_random.nextInt(CARD_VALUES.length);
     }
 }
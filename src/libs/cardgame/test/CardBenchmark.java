@@ -0,0 +1,56 @@
+package libs.cardgame.test;
+
+import libs.cardgame.Card;
+import libs.cardgame.CardMask;
+import libs.cardgame.RandomCardGenerator;
+import libs.util.benchmark.BenchmarkRunner;
+
+public class CardBenchmark {
+    private static final int [] SIZES = {1, 1_000};
+
+    private static void run(BenchmarkRunner runner)
+    {
+        for (int size : SIZES) {
+            runner.run("Card.newShuffledDeck", size, runner::newRandom, r -> {
+                long total = 0;
+
+                for (int i = 0; i < size; ++i)
+                    total += Card.newShuffledDeck(r)[0].getCardValue().ordinal();
+
+                return total;
+            });
+            runner.run("Card.newShuffledDeckOrdinals", size, runner::newRandom, r -> {
+                long total = 0;
+
+                for (int i = 0; i < size; ++i)
+                    total += Card.newShuffledDeckOrdinals(r)[0];
+
+                return total;
+            });
+            runner.run("RandomCardGenerator.create", size, () -> new RandomCardGenerator(runner.newRandom()), g -> {
+                long total = 0;
+
+                for (int i = 0; i < size; ++i)
+                    total += g.create().getCardType().ordinal();
+
+                return total;
+            });
+            runner.run("RandomCardGenerator.createOrdinal", size, () -> new RandomCardGenerator(runner.newRandom()), g -> {
+                long mask = 0;
+
+                for (int i = 0; i < size; ++i)
+                    mask = CardMask.add(mask, g.createOrdinal());
+
+                return CardMask.size(mask);
+            });
+        }
+    }
+
+    public static void main(String[] args)
+    {
+        BenchmarkRunner runner = BenchmarkRunner.fromArgs(args);
+
+        run(runner);
+        runner.finish();
+    }
+}
@@ -0,0 +1,59 @@
+package libs.math.geometry.test;
+
+import libs.math.geometry.Point;
+import libs.util.benchmark.BenchmarkRunner;
+
+import java.util.Random;
+
+public class PointBenchmark {
+    private static final int [] SIZES = {1_000, 100_000};
+
+    private static Point [] generate(Random random, int count)
+    {
+        Point [] points = new Point[count];
+
+        for (int i = 0; i < count; ++i)
+            points[i] = Point.createCartesian(random.nextDouble(-100, 100), random.nextDouble(-100, 100));
+
+        return points;
+    }
+
+    private static void run(BenchmarkRunner runner)
+    {
+        for (int size : SIZES) {
+            Point [] points = generate(runner.newRandom(), size);
+            double [] angles = runner.newRandom().doubles(size, 0, 2 * Math.PI).toArray();
+
+            runner.run("Point.createPolar", size, () -> angles, t -> {
+                double total = 0;
+
+                for (double theta : t)
+                    total += Point.createPolar(10, theta).getX();
+
+                return (long)total;
+            });
+            runner.run("Point.distance", size, () -> points, p -> {
+                double total = 0;
+
+                for (int i = 1; i < p.length; ++i)
+                    total += p[i].distance(p[i - 1]);
+
+                return (long)total;
+            });
+            runner.run("Point.offset", size, () -> points, p -> {
+                for (Point point : p)
+                    point.offset(1, -1);
+
+                return (long)p[0].getX();
+            });
+        }
+    }
+
+    public static void main(String[] args)
+    {
+        BenchmarkRunner runner = BenchmarkRunner.fromArgs(args);
+
+        run(runner);
+        runner.finish();
+    }
+}
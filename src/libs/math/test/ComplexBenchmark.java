@@ -0,0 +1,68 @@
+package libs.math.test;
+
+import libs.math.Complex;
+import libs.util.benchmark.BenchmarkRunner;
+
+import java.util.Random;
+
+public class ComplexBenchmark {
+    private static final int [] SIZES = {1_000, 100_000};
+
+    private static Complex [] generate(Random random, int count)
+    {
+        Complex [] values = new Complex[count];
+
+        for (int i = 0; i < count; ++i)
+            values[i] = new Complex(random.nextDouble(-100, 100), random.nextDouble(-100, 100));
+
+        return values;
+    }
+
+    private static void run(BenchmarkRunner runner)
+    {
+        for (int size : SIZES) {
+            Complex [] values = generate(runner.newRandom(), size);
+
+            runner.run("Complex.add", size, () -> values, z -> {
+                Complex total = new Complex();
+
+                for (Complex val : z)
+                    total = total.add(val);
+
+                return (long)total.real;
+            });
+            runner.run("Complex.subtract", size, () -> values, z -> {
+                Complex total = new Complex();
+
+                for (Complex val : z)
+                    total = total.subtract(val);
+
+                return (long)total.real;
+            });
+            runner.run("Complex.getConjugate", size, () -> values, z -> {
+                double total = 0;
+
+                for (Complex val : z)
+                    total += val.getConjugate().imag;
+
+                return (long)total;
+            });
+            runner.run("Complex.getNorm", size, () -> values, z -> {
+                double total = 0;
+
+                for (Complex val : z)
+                    total += val.getNorm();
+
+                return (long)total;
+            });
+        }
+    }
+
+    public static void main(String[] args)
+    {
+        BenchmarkRunner runner = BenchmarkRunner.fromArgs(args);
+
+        run(runner);
+        runner.finish();
+    }
+}
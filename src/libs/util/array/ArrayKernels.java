@@ -0,0 +1,76 @@
+package libs.util.array;
+
+final class ArrayKernels {
+    // Largest block whose 16-bit halves can be summed in int lanes without overflow
+    private static final int SUM_BLOCK_SIZE = 1 << 15;
+
+    private ArrayKernels()
+    {
+    }
+
+    static long sum(int [] a, int from, int to)
+    {
+        long total = 0;
+
+        // Each value is split as (val >> 16) * 65536 + (val & 0xFFFF) so the inner loop stays in int
+        // arithmetic, which the JIT can vectorize, and widens to long only once per block
+        for (int blockStart = from; blockStart < to; blockStart += SUM_BLOCK_SIZE) {
+            int blockEnd = Math.min(to, blockStart + SUM_BLOCK_SIZE);
+            int high = 0;
+            int low = 0;
+
+            for (int i = blockStart; i < blockEnd; ++i) {
+                high += a[i] >> 16;
+                low += a[i] & 0xFFFF;
+            }
+
+            total += ((long)high << 16) + low;
+        }
+
+        return total;
+    }
+
+    // Four independent accumulators break the dependency of each step on the previous one, so several compares
+    // are in flight at once instead of one chain of conditional moves
+    static int max(int [] a, int from, int to)
+    {
+        int r0 = a[from], r1 = r0, r2 = r0, r3 = r0;
+        int i = from + 1;
+
+        for (; i + 3 < to; i += 4) {
+            r0 = Math.max(r0, a[i]);
+            r1 = Math.max(r1, a[i + 1]);
+            r2 = Math.max(r2, a[i + 2]);
+            r3 = Math.max(r3, a[i + 3]);
+        }
+
+        for (; i < to; ++i)
+            r0 = Math.max(r0, a[i]);
+
+        return Math.max(Math.max(r0, r1), Math.max(r2, r3));
+    }
+
+    static int min(int [] a, int from, int to)
+    {
+        int r0 = a[from], r1 = r0, r2 = r0, r3 = r0;
+        int i = from + 1;
+
+        for (; i + 3 < to; i += 4) {
+            r0 = Math.min(r0, a[i]);
+            r1 = Math.min(r1, a[i + 1]);
+            r2 = Math.min(r2, a[i + 2]);
+            r3 = Math.min(r3, a[i + 3]);
+        }
+
+        for (; i < to; ++i)
+            r0 = Math.min(r0, a[i]);
+
+        return Math.min(Math.min(r0, r1), Math.min(r2, r3));
+    }
+
+    static void multiplyBy(int [] a, int from, int to, int value)
+    {
+        for (int i = from; i < to; ++i)
+            a[i] *= value;
+    }
+}
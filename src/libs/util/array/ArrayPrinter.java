@@ -0,0 +1,280 @@
+package libs.util.array;
+
+import libs.util.string.FixedPointFormat;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+public class ArrayPrinter implements Flushable, Closeable {
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    private static final int MIN_BUFFER_SIZE = 64;
+    private static final int DOUBLE_PRECISION = 6;
+    private static final int MAX_INT_LENGTH = 11;
+    private static final byte [][] ASCII_BYTES = new byte[128][];
+
+    static {
+        for (int i = 0; i < ASCII_BYTES.length; ++i)
+            ASCII_BYTES[i] = new byte[] {(byte)i};
+    }
+
+    private final OutputStream m_out;
+    private final WritableByteChannel m_channel;
+    private final Charset m_charset;
+    private final byte [] m_buffer;
+    private final ByteBuffer m_byteBuffer;
+    private final byte [] m_decimalSeparator;
+    private final byte [] m_digits = new byte[32];
+    private final FixedPointFormat m_format;
+    private final char [] m_work = new char[FixedPointFormat.MAX_LENGTH];
+    private int m_position;
+
+    private ArrayPrinter(OutputStream out, WritableByteChannel channel, Charset charset, Locale locale, int bufferSize)
+    {
+        if (bufferSize < MIN_BUFFER_SIZE)
+            throw new IllegalArgumentException("Buffer size must be at least " + MIN_BUFFER_SIZE);
+
+        m_out = out;
+        m_channel = channel;
+        m_charset = charset;
+        m_buffer = new byte[bufferSize];
+        m_byteBuffer = channel != null ? ByteBuffer.wrap(m_buffer) : null;
+        m_format = new FixedPointFormat(locale);
+        m_decimalSeparator = encode(m_format.getDecimalSeparator());
+    }
+
+    public ArrayPrinter(OutputStream out)
+    {
+        this(out, StandardCharsets.UTF_8);
+    }
+
+    public ArrayPrinter(OutputStream out, Charset charset)
+    {
+        this(out, charset, Locale.getDefault(Locale.Category.FORMAT), DEFAULT_BUFFER_SIZE);
+    }
+
+    public ArrayPrinter(OutputStream out, Charset charset, Locale locale, int bufferSize)
+    {
+        this(out, null, charset, locale, bufferSize);
+    }
+
+    public ArrayPrinter(WritableByteChannel channel)
+    {
+        this(channel, StandardCharsets.UTF_8);
+    }
+
+    public ArrayPrinter(WritableByteChannel channel, Charset charset)
+    {
+        this(channel, charset, Locale.getDefault(Locale.Category.FORMAT), DEFAULT_BUFFER_SIZE);
+    }
+
+    public ArrayPrinter(WritableByteChannel channel, Charset charset, Locale locale, int bufferSize)
+    {
+        this(null, channel, charset, locale, bufferSize);
+    }
+
+    static int estimateBufferSize(int count, int width)
+    {
+        return (int)Math.max(MIN_BUFFER_SIZE, Math.min(DEFAULT_BUFFER_SIZE, (long)count * (Math.max(width, MAX_INT_LENGTH) + 4)));
+    }
+
+    private byte [] encode(char c)
+    {
+        return c < ASCII_BYTES.length ? ASCII_BYTES[c] : String.valueOf(c).getBytes(m_charset);
+    }
+
+    private void ensureCapacity(int length)
+    {
+        if (m_buffer.length - m_position < length)
+            flushBuffer();
+    }
+
+    private void flushBuffer()
+    {
+        try {
+            if (m_channel != null) {
+                m_byteBuffer.clear().limit(m_position);
+
+                while (m_byteBuffer.hasRemaining())
+                    m_channel.write(m_byteBuffer);
+            }
+            else
+                m_out.write(m_buffer, 0, m_position);
+
+            m_position = 0;
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeByte(int b)
+    {
+        ensureCapacity(1);
+        m_buffer[m_position++] = (byte)b;
+    }
+
+    private void writeBytes(byte [] bytes)
+    {
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    private void writeBytes(byte [] bytes, int offset, int length)
+    {
+        while (length > 0) {
+            if (m_position == m_buffer.length)
+                flushBuffer();
+
+            int count = Math.min(length, m_buffer.length - m_position);
+
+            System.arraycopy(bytes, offset, m_buffer, m_position, count);
+            m_position += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    private void writeInt(int val, int width)
+    {
+        long abs = Math.abs((long)val);
+        int digitCount = 1;
+
+        for (long temp = abs; temp >= 10; temp /= 10)
+            ++digitCount;
+
+        int length = Math.max(width, digitCount + (val < 0 ? 1 : 0));
+
+        if (length > m_buffer.length) {
+            writeLongInt(val, length - digitCount - (val < 0 ? 1 : 0));
+            return;
+        }
+
+        ensureCapacity(length);
+
+        int end = m_position + length;
+        int i = end;
+
+        do {
+            m_buffer[--i] = (byte)('0' + abs % 10);
+            abs /= 10;
+        } while (abs != 0);
+
+        int start = m_position;
+
+        if (val < 0)
+            m_buffer[start++] = '-';
+
+        while (i > start)
+            m_buffer[--i] = '0';
+
+        m_position = end;
+    }
+
+    private void writeLongInt(int val, int zeroCount)
+    {
+        if (val < 0)
+            writeByte('-');
+
+        while (zeroCount-- > 0)
+            writeByte('0');
+
+        long abs = Math.abs((long)val);
+        int i = m_digits.length;
+
+        do {
+            m_digits[--i] = (byte)('0' + abs % 10);
+            abs /= 10;
+        } while (abs != 0);
+
+        writeBytes(m_digits, i, m_digits.length - i);
+    }
+
+    private void writeDouble(double val)
+    {
+        int length = m_format.format(val, DOUBLE_PRECISION, m_work);
+
+        for (int i = 0; i < length; ++i) {
+            char c = m_work[i];
+
+            if (c < ASCII_BYTES.length)
+                writeByte(c);
+            else
+                writeBytes(m_decimalSeparator);
+        }
+    }
+
+    public void print(int [] a)
+    {
+        print(a, 1, ' ', '\n');
+    }
+
+    public void print(int [] a, int n, char sep, char end)
+    {
+        byte [] sepBytes = encode(sep);
+
+        for (int val : a) {
+            writeInt(val, n);
+            writeBytes(sepBytes);
+        }
+
+        writeBytes(encode(end));
+    }
+
+    public void print(int [][] a, int n)
+    {
+        for (int [] array : a)
+            print(array, n, ' ', '\n');
+    }
+
+    public void print(double [] a)
+    {
+        print(a, '\n', '\n');
+    }
+
+    public void print(double [] a, char sep, char end)
+    {
+        byte [] sepBytes = encode(sep);
+
+        for (double val : a) {
+            writeDouble(val);
+            writeBytes(sepBytes);
+        }
+
+        writeBytes(encode(end));
+    }
+
+    public void flush()
+    {
+        flushBuffer();
+
+        try {
+            if (m_out != null)
+                m_out.flush();
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void close()
+    {
+        flush();
+
+        try {
+            if (m_channel != null)
+                m_channel.close();
+            else
+                m_out.close();
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
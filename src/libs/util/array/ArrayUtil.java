@@ -1,8 +1,18 @@
 package libs.util.array;
 
+import libs.util.thread.ThreadUtil;
+
+import java.nio.charset.Charset;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.Random;
+import java.util.function.IntPredicate;
+import java.util.random.RandomGenerator;
 
 public class ArrayUtil {
+    private static final int SIMPLE_SORT_THRESHOLD = 64;
+    private static final int RANDOM_CHUNK_SIZE = 1 << 16;
+
     private ArrayUtil()
     {
     }
@@ -59,6 +69,12 @@ public class ArrayUtil {
         }
     }
 
+    private static ArrayPrinter newSystemOutPrinter(int count, int width)
+    {
+        return new ArrayPrinter(System.out, Charset.defaultCharset(), Locale.getDefault(Locale.Category.FORMAT),
+                ArrayPrinter.estimateBufferSize(count, width));
+    }
+
     public static double average(int [] a)
     {
         return sum(a) / (double)a.length;
@@ -71,7 +87,9 @@ public class ArrayUtil {
 
     public static void bubbleSort(int [] a, boolean descending)
     {
-        if (descending)
+        if (a.length > SIMPLE_SORT_THRESHOLD)
+            sort(a, descending);
+        else if (descending)
             bubbleSortDescending(a);
         else
             bubbleSortAscending(a);
@@ -80,15 +98,19 @@ public class ArrayUtil {
     public static void drawHistogram(int [] data, int n, char ch)
     {
         int maxValue = ArrayUtil.max(data);
+        StringBuilder sb = new StringBuilder(data.length * (n + 1));
+        String lineSeparator = System.lineSeparator();
 
         for (int grade : data) {
             int count = (int)Math.floor(grade * n / (double)maxValue);
 
             while (count-- > 0)
-                System.out.print(ch);
+                sb.append(ch);
 
-            System.out.println();
+            sb.append(lineSeparator);
         }
+
+        System.out.print(sb);
     }
 
     public static int [] generateRandomArray(Random random, int count, int origin, int bound)
@@ -121,6 +143,47 @@ public class ArrayUtil {
         return a;
     }
 
+    public static int [] generateRandomArray(RandomGenerator.SplittableGenerator random, int count, int origin, int bound)
+    {
+        int [] a = new int[count];
+
+        ThreadUtil.forEachChunk(random, count, RANDOM_CHUNK_SIZE, (generator, start, end) -> {
+            for (int i = start; i < end; ++i)
+                a[i] = generator.nextInt(origin, bound);
+        });
+
+        return a;
+    }
+
+    public static double [] generateRandomArray(RandomGenerator.SplittableGenerator random, int count, double origin, double bound)
+    {
+        double [] a = new double[count];
+
+        ThreadUtil.forEachChunk(random, count, RANDOM_CHUNK_SIZE, (generator, start, end) -> {
+            for (int i = start; i < end; ++i)
+                a[i] = generator.nextDouble(origin, bound);
+        });
+
+        return a;
+    }
+
+    public static boolean [] generateRandomArray(RandomGenerator.SplittableGenerator random, int count)
+    {
+        boolean [] a = new boolean[count];
+
+        ThreadUtil.forEachChunk(random, count, RANDOM_CHUNK_SIZE, (generator, start, end) -> {
+            for (int i = start; i < end; ++i)
+                a[i] = generator.nextBoolean();
+        });
+
+        return a;
+    }
+
+    public static int getParallelThreshold()
+    {
+        return ParallelEngine.getThreshold();
+    }
+
     public static int [] histogramData(int [] a, int n)
     {
         int [] data = new int[n + 1];
@@ -138,12 +201,17 @@ public class ArrayUtil {
 
     public static int max(int [] a, int startIndex)
     {
-        int result = a[startIndex];
+        return ArrayKernels.max(a, startIndex, a.length);
+    }
 
-        for (int i = startIndex + 1; i < a.length; ++i)
-            result = Math.max(result, a[i]);
+    public static int max(int [] a, int fromIndex, int toIndex)
+    {
+        Objects.checkFromToIndex(fromIndex, toIndex, a.length);
 
-        return result;
+        if (fromIndex == toIndex)
+            throw new IllegalArgumentException("Range must not be empty");
+
+        return ArrayKernels.max(a, fromIndex, toIndex);
     }
 
     public static int max(int [][] a)
@@ -156,6 +224,22 @@ public class ArrayUtil {
         return result;
     }
 
+    public static double median(int [] a)
+    {
+        if (a.length == 0)
+            throw new IllegalArgumentException("Array is empty");
+
+        int [] copy = a.clone();
+        int mid = copy.length / 2;
+
+        if (copy.length % 2 != 0)
+            return PartitionEngine.select(copy, 0, copy.length, mid);
+
+        int lower = PartitionEngine.select(copy, 0, copy.length, mid - 1);
+
+        return (lower + (double)ArrayKernels.min(copy, mid, copy.length)) / 2;
+    }
+
     public static int min(int [] a)
     {
         return min(a, 0);
@@ -163,12 +247,17 @@ public class ArrayUtil {
 
     public static int min(int [] a, int startIndex)
     {
-        int result = a[startIndex];
+        return ArrayKernels.min(a, startIndex, a.length);
+    }
 
-        for (int i = startIndex + 1; i < a.length; ++i)
-            result = Math.min(result, a[i]);
+    public static int min(int [] a, int fromIndex, int toIndex)
+    {
+        Objects.checkFromToIndex(fromIndex, toIndex, a.length);
 
-        return result;
+        if (fromIndex == toIndex)
+            throw new IllegalArgumentException("Range must not be empty");
+
+        return ArrayKernels.min(a, fromIndex, toIndex);
     }
 
     public static int min(int [][] a)
@@ -183,8 +272,13 @@ public class ArrayUtil {
 
     public static void multiplyBy(int [] a, int value)
     {
-        for (int i = 0; i < a.length; ++i)
-            a[i] *= value;
+        ArrayKernels.multiplyBy(a, 0, a.length, value);
+    }
+
+    public static void multiplyBy(int [] a, int fromIndex, int toIndex, int value)
+    {
+        Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+        ArrayKernels.multiplyBy(a, fromIndex, toIndex, value);
     }
 
     public static void multiplyBy(int [][] a, int value)
@@ -193,38 +287,130 @@ public class ArrayUtil {
             multiplyBy(array, value);
     }
 
+    public static double parallelAverage(int [] a)
+    {
+        return parallelSum(a) / (double)a.length;
+    }
+
+    public static int parallelMax(int [] a)
+    {
+        return parallelMax(a, 0);
+    }
+
+    public static int parallelMax(int [] a, int startIndex)
+    {
+        return ParallelEngine.max(a, startIndex);
+    }
+
+    public static int parallelMax(int [][] a)
+    {
+        return ParallelEngine.max(a);
+    }
+
+    public static int parallelMin(int [] a)
+    {
+        return parallelMin(a, 0);
+    }
+
+    public static int parallelMin(int [] a, int startIndex)
+    {
+        return ParallelEngine.min(a, startIndex);
+    }
+
+    public static int parallelMin(int [][] a)
+    {
+        return ParallelEngine.min(a);
+    }
+
+    public static void parallelMultiplyBy(int [] a, int value)
+    {
+        ParallelEngine.multiplyBy(a, value);
+    }
+
+    public static void parallelMultiplyBy(int [][] a, int value)
+    {
+        ParallelEngine.multiplyBy(a, value);
+    }
+
+    public static int parallelPartition(int [] a, IntPredicate predicate)
+    {
+        return parallelPartition(a, 0, a.length, predicate);
+    }
+
+    public static int parallelPartition(int [] a, int fromIndex, int toIndex, IntPredicate predicate)
+    {
+        Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+
+        return PartitionEngine.parallelPartition(a, fromIndex, toIndex, predicate);
+    }
+
+    public static void parallelSort(int [] a)
+    {
+        parallelSort(a, false);
+    }
+
+    public static void parallelSort(int [] a, boolean descending)
+    {
+        ParallelEngine.sort(a, descending);
+    }
+
+    public static long parallelSum(int [] a)
+    {
+        return ParallelEngine.sum(a);
+    }
+
     public static int partition(int [] a, int threshold)
     {
-        int partitionPoint = 0;
+        return partition(a, 0, a.length, threshold);
+    }
 
-        while (partitionPoint != a.length && a[partitionPoint] < threshold)
-            ++partitionPoint;
+    public static int partition(int [] a, int fromIndex, int toIndex, int threshold)
+    {
+        return partition(a, fromIndex, toIndex, val -> val < threshold);
+    }
 
-        if (partitionPoint == a.length)
-            return partitionPoint;
+    public static int partition(int [] a, IntPredicate predicate)
+    {
+        return partition(a, 0, a.length, predicate);
+    }
 
-        for (int i = partitionPoint + 1; i < a.length; ++i)
-            if (a[i] < threshold)
-                swap(a, i, partitionPoint++);
+    public static int partition(int [] a, int fromIndex, int toIndex, IntPredicate predicate)
+    {
+        Objects.checkFromToIndex(fromIndex, toIndex, a.length);
 
-        return partitionPoint;
+        return PartitionEngine.partition(a, fromIndex, toIndex, predicate);
     }
 
     public static int partitionByEven(int [] a)
     {
-        int partitionPoint = 0;
+        return partition(a, val -> val % 2 == 0);
+    }
 
-        while (partitionPoint != a.length && a[partitionPoint] % 2 == 0)
-            ++partitionPoint;
+    public static int [] partitionThreeWay(int [] a, int pivot)
+    {
+        return partitionThreeWay(a, 0, a.length, pivot);
+    }
+
+    public static int [] partitionThreeWay(int [] a, int fromIndex, int toIndex, int pivot)
+    {
+        Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+
+        long bounds = PartitionEngine.partitionThreeWay(a, fromIndex, toIndex, pivot);
 
-        if (partitionPoint == a.length)
-            return partitionPoint;
+        return new int[] {(int)(bounds >>> 32), (int)bounds};
+    }
+
+    public static int percentile(int [] a, double p)
+    {
+        if (a.length == 0)
+            throw new IllegalArgumentException("Array is empty");
 
-        for (int i = partitionPoint + 1; i < a.length; ++i)
-            if (a[i] % 2 == 0)
-                swap(a, i, partitionPoint++);
+        if (!(p >= 0 && p <= 100))
+            throw new IllegalArgumentException("Percentile must be in [0, 100]:" + p);
 
-        return partitionPoint;
+        int rank = (int)Math.ceil(p / 100 * a.length);
+
+        return select(a.clone(), Math.max(rank, 1) - 1);
     }
 
     public static void print(int [] a)
@@ -244,12 +430,10 @@ public class ArrayUtil {
 
     public static void print(int [] a, int n, char sep, char end)
     {
-        String fmt = String.format("%%0%dd%c", n, sep);
+        ArrayPrinter printer = newSystemOutPrinter(a.length, n);
 
-        for (int val : a)
-            System.out.printf(fmt, val);
-
-        System.out.print(end);
+        printer.print(a, n, sep, end);
+        printer.flush();
     }
 
     public static void print(int [][] a)
@@ -259,8 +443,10 @@ public class ArrayUtil {
 
     public static void print(int [][] a, int n)
     {
-        for (int [] array : a)
-            print(array, n, ' ', '\n');
+        ArrayPrinter printer = newSystemOutPrinter(a.length == 0 ? 0 : a.length * a[0].length, n);
+
+        printer.print(a, n);
+        printer.flush();
     }
 
     public static void print(double [] a)
@@ -270,10 +456,43 @@ public class ArrayUtil {
 
     public static void print(double [] a, char sep, char end)
     {
-        for (double val : a)
-            System.out.printf("%f%c", val, sep);
+        ArrayPrinter printer = newSystemOutPrinter(a.length, 0);
+
+        printer.print(a, sep, end);
+        printer.flush();
+    }
+
+    public static void quickSort(int [] a)
+    {
+        quickSort(a, false);
+    }
+
+    public static void quickSort(int [] a, boolean descending)
+    {
+        SortEngine.quickSort(a, descending);
+    }
+
+    public static void radixSort(int [] a)
+    {
+        radixSort(a, false);
+    }
+
+    public static void radixSort(int [] a, boolean descending)
+    {
+        SortEngine.radixSort(a, descending);
+    }
+
+    public static int select(int [] a, int k)
+    {
+        return select(a, 0, a.length, k);
+    }
+
+    public static int select(int [] a, int fromIndex, int toIndex, int k)
+    {
+        Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+        Objects.checkIndex(k - fromIndex, toIndex - fromIndex);
 
-        System.out.print(end);
+        return PartitionEngine.select(a, fromIndex, toIndex, k);
     }
 
     public static void selectionSort(int [] a)
@@ -283,19 +502,62 @@ public class ArrayUtil {
 
     public static void selectionSort(int [] a, boolean descending)
     {
-        if (descending)
+        if (a.length > SIMPLE_SORT_THRESHOLD)
+            sort(a, descending);
+        else if (descending)
             selectionSortDescending(a);
         else
             selectionSortAscending(a);
     }
+
+    public static void setParallelThreshold(int threshold)
+    {
+        ParallelEngine.setThreshold(threshold);
+    }
+
+    public static int stablePartition(int [] a, IntPredicate predicate)
+    {
+        return stablePartition(a, 0, a.length, predicate);
+    }
+
+    public static int stablePartition(int [] a, int fromIndex, int toIndex, IntPredicate predicate)
+    {
+        Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+
+        return PartitionEngine.stablePartition(a, fromIndex, toIndex, predicate);
+    }
+
+    public static void sort(int [] a)
+    {
+        sort(a, false);
+    }
+
+    public static void sort(int [] a, boolean descending)
+    {
+        SortEngine.sort(a, descending);
+    }
+
+    public static void sort(int [] a, int fromIndex, int toIndex)
+    {
+        sort(a, fromIndex, toIndex, false);
+    }
+
+    public static void sort(int [] a, int fromIndex, int toIndex, boolean descending)
+    {
+        Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+        SortEngine.sort(a, fromIndex, toIndex, descending);
+    }
+
     public static long sum(int [] a)
     {
-        long total = 0;
+        return ArrayKernels.sum(a, 0, a.length);
+    }
 
-        for (int val : a)
-            total += val;
+    public static long sum(int [] a, int fromIndex, int toIndex)
+    {
+        Objects.checkFromToIndex(fromIndex, toIndex, a.length);
 
-        return total;
+        return ArrayKernels.sum(a, fromIndex, toIndex);
     }
 
     public static void swap(int [] a, int i, int k)
@@ -0,0 +1,240 @@
+package libs.util.array;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+public class Histogram {
+    private final int m_origin;
+    private final int m_bound;
+    private final boolean m_logarithmic;
+    private final LongAdder [] m_counts;
+    private final LongAdder m_underflow = new LongAdder();
+    private final LongAdder m_overflow = new LongAdder();
+
+    private Histogram(int origin, int bound, int bucketCount, boolean logarithmic)
+    {
+        m_origin = origin;
+        m_bound = bound;
+        m_logarithmic = logarithmic;
+        m_counts = new LongAdder[bucketCount];
+
+        for (int i = 0; i < bucketCount; ++i)
+            m_counts[i] = new LongAdder();
+    }
+
+    private static long ceilDiv(long x, long y)
+    {
+        return -Math.floorDiv(-x, y);
+    }
+
+    private static void checkRange(int origin, int bound)
+    {
+        if (origin >= bound)
+            throw new IllegalArgumentException("bound must be greater than origin");
+    }
+
+    private int bucketIndex(int value)
+    {
+        long offset = (long)value - m_origin;
+
+        if (m_logarithmic)
+            return 63 - Long.numberOfLeadingZeros(offset + 1);
+
+        return (int)(offset * m_counts.length / ((long)m_bound - m_origin));
+    }
+
+    private void checkBucket(int bucket)
+    {
+        if (bucket < 0 || bucket >= m_counts.length)
+            throw new IndexOutOfBoundsException("Invalid bucket:" + bucket);
+    }
+
+    public static Histogram createLinear(int origin, int bound, int bucketCount)
+    {
+        checkRange(origin, bound);
+
+        if (bucketCount < 1 || bucketCount > (long)bound - origin)
+            throw new IllegalArgumentException("Invalid bucket count:" + bucketCount);
+
+        return new Histogram(origin, bound, bucketCount, false);
+    }
+
+    public static Histogram createLogarithmic(int origin, int bound)
+    {
+        checkRange(origin, bound);
+
+        return new Histogram(origin, bound, 64 - Long.numberOfLeadingZeros((long)bound - origin), true);
+    }
+
+    public void add(int value)
+    {
+        add(value, 1);
+    }
+
+    public void add(int value, long count)
+    {
+        if (value < m_origin)
+            m_underflow.add(count);
+        else if (value >= m_bound)
+            m_overflow.add(count);
+        else
+            m_counts[bucketIndex(value)].add(count);
+    }
+
+    public void addAll(int [] a)
+    {
+        addAll(a, 0, a.length);
+    }
+
+    public void addAll(int [] a, int fromIndex, int toIndex)
+    {
+        long [] local = new long[m_counts.length];
+        long underflow = 0, overflow = 0;
+
+        for (int i = fromIndex; i < toIndex; ++i) {
+            int value = a[i];
+
+            if (value < m_origin)
+                ++underflow;
+            else if (value >= m_bound)
+                ++overflow;
+            else
+                ++local[bucketIndex(value)];
+        }
+
+        m_underflow.add(underflow);
+        m_overflow.add(overflow);
+
+        for (int i = 0; i < local.length; ++i)
+            if (local[i] != 0)
+                m_counts[i].add(local[i]);
+    }
+
+    public void addAll(IntStream stream)
+    {
+        stream.forEach(this::add);
+    }
+
+    public int getBucketCount()
+    {
+        return m_counts.length;
+    }
+
+    public long getBucketLowerBound(int bucket)
+    {
+        checkBucket(bucket);
+
+        if (m_logarithmic)
+            return m_origin + (1L << bucket) - 1;
+
+        return m_origin + ceilDiv(((long)m_bound - m_origin) * bucket, m_counts.length);
+    }
+
+    public long getBucketUpperBound(int bucket)
+    {
+        checkBucket(bucket);
+
+        return bucket == m_counts.length - 1 ? m_bound : getBucketLowerBound(bucket + 1);
+    }
+
+    public long getCount(int bucket)
+    {
+        checkBucket(bucket);
+
+        return m_counts[bucket].sum();
+    }
+
+    public long [] getCounts()
+    {
+        long [] counts = new long[m_counts.length];
+
+        for (int i = 0; i < counts.length; ++i)
+            counts[i] = m_counts[i].sum();
+
+        return counts;
+    }
+
+    public long getOverflowCount()
+    {
+        return m_overflow.sum();
+    }
+
+    public long getTotalCount()
+    {
+        long total = m_underflow.sum() + m_overflow.sum();
+
+        for (LongAdder count : m_counts)
+            total += count.sum();
+
+        return total;
+    }
+
+    public long getUnderflowCount()
+    {
+        return m_underflow.sum();
+    }
+
+    public boolean isLogarithmic()
+    {
+        return m_logarithmic;
+    }
+
+    public void merge(Histogram other)
+    {
+        if (m_origin != other.m_origin || m_bound != other.m_bound || m_logarithmic != other.m_logarithmic
+                || m_counts.length != other.m_counts.length)
+            throw new IllegalArgumentException("Histograms have different bucket layouts");
+
+        for (int i = 0; i < m_counts.length; ++i)
+            m_counts[i].add(other.m_counts[i].sum());
+
+        m_underflow.add(other.m_underflow.sum());
+        m_overflow.add(other.m_overflow.sum());
+    }
+
+    public void reset()
+    {
+        for (LongAdder count : m_counts)
+            count.reset();
+
+        m_underflow.reset();
+        m_overflow.reset();
+    }
+
+    public String render(int n, char ch)
+    {
+        long [] counts = getCounts();
+        long maxCount = 0;
+
+        for (long count : counts)
+            maxCount = Math.max(maxCount, count);
+
+        String lineSeparator = System.lineSeparator();
+        StringBuilder sb = new StringBuilder(counts.length * (n + 32));
+
+        for (int i = 0; i < counts.length; ++i) {
+            int length = maxCount == 0 ? 0 : (int)(counts[i] * n / maxCount);
+
+            sb.append('[').append(getBucketLowerBound(i)).append(", ").append(getBucketUpperBound(i)).append(") ");
+
+            for (int k = 0; k < length; ++k)
+                sb.append(ch);
+
+            sb.append(' ').append(counts[i]).append(lineSeparator);
+        }
+
+        return sb.toString();
+    }
+
+    public void draw(int n, char ch)
+    {
+        draw(System.out, n, ch);
+    }
+
+    public void draw(PrintStream out, int n, char ch)
+    {
+        out.print(render(n, ch));
+        out.flush();
+    }
+}
@@ -0,0 +1,225 @@
+package libs.util.array;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Random;
+
+public class OffHeapDoubleArray {
+    private static final int SEGMENT_SHIFT = 27;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private final DoubleBuffer [] m_segments;
+    private final MappedByteBuffer [] m_mappedSegments;
+    private final long m_length;
+
+    private OffHeapDoubleArray(DoubleBuffer [] segments, MappedByteBuffer [] mappedSegments, long length)
+    {
+        m_segments = segments;
+        m_mappedSegments = mappedSegments;
+        m_length = length;
+    }
+
+    private static int segmentCount(long length)
+    {
+        if (length < 0)
+            throw new IllegalArgumentException("Length can not be negative:" + length);
+
+        return (int)((length + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+    }
+
+    private static int segmentLength(long length, int segment)
+    {
+        return (int)Math.min(SEGMENT_SIZE, length - ((long)segment << SEGMENT_SHIFT));
+    }
+
+    public static OffHeapDoubleArray allocate(long length)
+    {
+        DoubleBuffer [] segments = new DoubleBuffer[segmentCount(length)];
+
+        for (int i = 0; i < segments.length; ++i)
+            segments[i] = ByteBuffer.allocateDirect(segmentLength(length, i) * Double.BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+
+        return new OffHeapDoubleArray(segments, null, length);
+    }
+
+    public static OffHeapDoubleArray map(Path path, long length) throws IOException
+    {
+        DoubleBuffer [] segments = new DoubleBuffer[segmentCount(length)];
+        MappedByteBuffer [] mappedSegments = new MappedByteBuffer[segments.length];
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            for (int i = 0; i < segments.length; ++i) {
+                long position = ((long)i << SEGMENT_SHIFT) * Double.BYTES;
+
+                mappedSegments[i] = channel.map(FileChannel.MapMode.READ_WRITE, position, (long)segmentLength(length, i) * Double.BYTES);
+                segments[i] = mappedSegments[i].order(ByteOrder.nativeOrder()).asDoubleBuffer();
+            }
+        }
+
+        return new OffHeapDoubleArray(segments, mappedSegments, length);
+    }
+
+    public static OffHeapDoubleArray generateRandomArray(Random random, long count, double origin, double bound)
+    {
+        OffHeapDoubleArray a = allocate(count);
+
+        a.fillRandom(random, origin, bound);
+
+        return a;
+    }
+
+    public void fillRandom(Random random, double origin, double bound)
+    {
+        double [] buffer = new double[(int)Math.min(CHUNK_SIZE, m_length)];
+
+        for (long start = 0; start < m_length; start += CHUNK_SIZE) {
+            int count = (int)Math.min(CHUNK_SIZE, m_length - start);
+
+            for (int i = 0; i < count; ++i)
+                buffer[i] = random.nextDouble(origin, bound);
+
+            write(start, buffer, 0, count);
+        }
+    }
+
+    public void force()
+    {
+        if (m_mappedSegments != null)
+            for (MappedByteBuffer segment : m_mappedSegments)
+                segment.force();
+    }
+
+    public double get(long index)
+    {
+        Objects.checkIndex(index, m_length);
+
+        return m_segments[(int)(index >>> SEGMENT_SHIFT)].get((int)(index & SEGMENT_MASK));
+    }
+
+    public long length()
+    {
+        return m_length;
+    }
+
+    public double max()
+    {
+        if (m_length == 0)
+            throw new IllegalStateException("Array is empty");
+
+        double [] buffer = new double[(int)Math.min(CHUNK_SIZE, m_length)];
+        double result = Double.NEGATIVE_INFINITY;
+
+        for (long start = 0; start < m_length; start += CHUNK_SIZE) {
+            int count = (int)Math.min(CHUNK_SIZE, m_length - start);
+
+            read(start, buffer, 0, count);
+
+            for (int i = 0; i < count; ++i)
+                result = Math.max(result, buffer[i]);
+        }
+
+        return result;
+    }
+
+    public double min()
+    {
+        if (m_length == 0)
+            throw new IllegalStateException("Array is empty");
+
+        double [] buffer = new double[(int)Math.min(CHUNK_SIZE, m_length)];
+        double result = Double.POSITIVE_INFINITY;
+
+        for (long start = 0; start < m_length; start += CHUNK_SIZE) {
+            int count = (int)Math.min(CHUNK_SIZE, m_length - start);
+
+            read(start, buffer, 0, count);
+
+            for (int i = 0; i < count; ++i)
+                result = Math.min(result, buffer[i]);
+        }
+
+        return result;
+    }
+
+    public void multiplyBy(double value)
+    {
+        double [] buffer = new double[(int)Math.min(CHUNK_SIZE, m_length)];
+
+        for (long start = 0; start < m_length; start += CHUNK_SIZE) {
+            int count = (int)Math.min(CHUNK_SIZE, m_length - start);
+
+            read(start, buffer, 0, count);
+
+            for (int i = 0; i < count; ++i)
+                buffer[i] *= value;
+
+            write(start, buffer, 0, count);
+        }
+    }
+
+    public void read(long index, double [] dest, int offset, int count)
+    {
+        Objects.checkFromIndexSize(index, count, m_length);
+        Objects.checkFromIndexSize(offset, count, dest.length);
+
+        while (count > 0) {
+            int segment = (int)(index >>> SEGMENT_SHIFT);
+            int position = (int)(index & SEGMENT_MASK);
+            int n = Math.min(count, m_segments[segment].limit() - position);
+
+            m_segments[segment].get(position, dest, offset, n);
+            index += n;
+            offset += n;
+            count -= n;
+        }
+    }
+
+    public void set(long index, double value)
+    {
+        Objects.checkIndex(index, m_length);
+        m_segments[(int)(index >>> SEGMENT_SHIFT)].put((int)(index & SEGMENT_MASK), value);
+    }
+
+    public double sum()
+    {
+        double [] buffer = new double[(int)Math.min(CHUNK_SIZE, m_length)];
+        double total = 0;
+
+        for (long start = 0; start < m_length; start += CHUNK_SIZE) {
+            int count = (int)Math.min(CHUNK_SIZE, m_length - start);
+
+            read(start, buffer, 0, count);
+
+            for (int i = 0; i < count; ++i)
+                total += buffer[i];
+        }
+
+        return total;
+    }
+
+    public void write(long index, double [] src, int offset, int count)
+    {
+        Objects.checkFromIndexSize(index, count, m_length);
+        Objects.checkFromIndexSize(offset, count, src.length);
+
+        while (count > 0) {
+            int segment = (int)(index >>> SEGMENT_SHIFT);
+            int position = (int)(index & SEGMENT_MASK);
+            int n = Math.min(count, m_segments[segment].limit() - position);
+
+            m_segments[segment].put(position, src, offset, n);
+            index += n;
+            offset += n;
+            count -= n;
+        }
+    }
+}
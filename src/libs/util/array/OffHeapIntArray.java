@@ -0,0 +1,412 @@
+package libs.util.array;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Random;
+
+public class OffHeapIntArray {
+    private static final int SEGMENT_SHIFT = 28;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final int RUN_SIZE = 1 << 22;
+
+    private final IntBuffer [] m_segments;
+    private final MappedByteBuffer [] m_mappedSegments;
+    private final Path m_path;
+    private final long m_length;
+
+    private OffHeapIntArray(IntBuffer [] segments, MappedByteBuffer [] mappedSegments, Path path, long length)
+    {
+        m_segments = segments;
+        m_mappedSegments = mappedSegments;
+        m_path = path;
+        m_length = length;
+    }
+
+    private static int segmentCount(long length)
+    {
+        if (length < 0)
+            throw new IllegalArgumentException("Length can not be negative:" + length);
+
+        return (int)((length + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+    }
+
+    private static int segmentLength(long length, int segment)
+    {
+        return (int)Math.min(SEGMENT_SIZE, length - ((long)segment << SEGMENT_SHIFT));
+    }
+
+    private static void deleteScratch(Path path)
+    {
+        try {
+            Files.deleteIfExists(path);
+        }
+        catch (IOException ex) {
+            path.toFile().deleteOnExit();
+        }
+    }
+
+    private void sortRuns(boolean descending)
+    {
+        int [] buffer = new int[(int)Math.min(RUN_SIZE, m_length)];
+
+        for (long start = 0; start < m_length; start += RUN_SIZE) {
+            int count = (int)Math.min(RUN_SIZE, m_length - start);
+
+            read(start, buffer, 0, count);
+            ArrayUtil.sort(buffer, 0, count, descending);
+            write(start, buffer, 0, count);
+        }
+    }
+
+    private void mergeRuns(OffHeapIntArray scratch, boolean descending)
+    {
+        OffHeapIntArray src = this;
+        OffHeapIntArray dest = scratch;
+        int [] left = new int[CHUNK_SIZE];
+        int [] right = new int[CHUNK_SIZE];
+        int [] out = new int[CHUNK_SIZE];
+
+        for (long width = RUN_SIZE; width < m_length; width <<= 1) {
+            for (long from = 0; from < m_length; from += 2 * width) {
+                long mid = Math.min(from + width, m_length);
+                long to = Math.min(from + 2 * width, m_length);
+
+                merge(src, dest, from, mid, to, descending, left, right, out);
+            }
+
+            OffHeapIntArray temp = src;
+
+            src = dest;
+            dest = temp;
+        }
+
+        if (src != this)
+            copy(src, 0, this, 0, m_length);
+    }
+
+    // Both runs are read and the output is written a chunk at a time through the bulk helpers, as copy does
+    private static void merge(OffHeapIntArray src, OffHeapIntArray dest, long from, long mid, long to, boolean descending,
+                              int [] left, int [] right, int [] out)
+    {
+        long i = from, k = mid, idx = from;
+        int leftPos = 0, leftCount = 0, rightPos = 0, rightCount = 0, outCount = 0;
+
+        while (true) {
+            if (leftPos == leftCount) {
+                if (i == mid)
+                    break;
+
+                leftCount = (int)Math.min(left.length, mid - i);
+                src.read(i, left, 0, leftCount);
+                i += leftCount;
+                leftPos = 0;
+            }
+
+            if (rightPos == rightCount) {
+                if (k == to)
+                    break;
+
+                rightCount = (int)Math.min(right.length, to - k);
+                src.read(k, right, 0, rightCount);
+                k += rightCount;
+                rightPos = 0;
+            }
+
+            int l = left[leftPos], r = right[rightPos];
+
+            if (descending ? l >= r : l <= r) {
+                out[outCount++] = l;
+                ++leftPos;
+            }
+            else {
+                out[outCount++] = r;
+                ++rightPos;
+            }
+
+            if (outCount == out.length) {
+                dest.write(idx, out, 0, outCount);
+                idx += outCount;
+                outCount = 0;
+            }
+        }
+
+        dest.write(idx, out, 0, outCount);
+        idx += outCount;
+        dest.write(idx, left, leftPos, leftCount - leftPos);
+        idx += leftCount - leftPos;
+        copy(src, i, dest, idx, mid - i);
+        idx += mid - i;
+        dest.write(idx, right, rightPos, rightCount - rightPos);
+        idx += rightCount - rightPos;
+        copy(src, k, dest, idx, to - k);
+    }
+
+    private static void copy(OffHeapIntArray src, long srcIndex, OffHeapIntArray dest, long destIndex, long count)
+    {
+        int [] buffer = new int[(int)Math.min(CHUNK_SIZE, count)];
+
+        for (long done = 0; done < count; ) {
+            int n = (int)Math.min(buffer.length, count - done);
+
+            src.read(srcIndex + done, buffer, 0, n);
+            dest.write(destIndex + done, buffer, 0, n);
+            done += n;
+        }
+    }
+
+    public static OffHeapIntArray allocate(long length)
+    {
+        IntBuffer [] segments = new IntBuffer[segmentCount(length)];
+
+        for (int i = 0; i < segments.length; ++i)
+            segments[i] = ByteBuffer.allocateDirect(segmentLength(length, i) * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+
+        return new OffHeapIntArray(segments, null, null, length);
+    }
+
+    public static OffHeapIntArray map(Path path, long length) throws IOException
+    {
+        IntBuffer [] segments = new IntBuffer[segmentCount(length)];
+        MappedByteBuffer [] mappedSegments = new MappedByteBuffer[segments.length];
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            for (int i = 0; i < segments.length; ++i) {
+                long position = ((long)i << SEGMENT_SHIFT) * Integer.BYTES;
+
+                mappedSegments[i] = channel.map(FileChannel.MapMode.READ_WRITE, position, (long)segmentLength(length, i) * Integer.BYTES);
+                segments[i] = mappedSegments[i].order(ByteOrder.nativeOrder()).asIntBuffer();
+            }
+        }
+
+        return new OffHeapIntArray(segments, mappedSegments, path, length);
+    }
+
+    public static OffHeapIntArray generateRandomArray(Random random, long count, int origin, int bound)
+    {
+        OffHeapIntArray a = allocate(count);
+
+        a.fillRandom(random, origin, bound);
+
+        return a;
+    }
+
+    public void addTo(Histogram histogram)
+    {
+        int [] buffer = new int[(int)Math.min(CHUNK_SIZE, m_length)];
+
+        for (long start = 0; start < m_length; start += CHUNK_SIZE) {
+            int count = (int)Math.min(CHUNK_SIZE, m_length - start);
+
+            read(start, buffer, 0, count);
+            histogram.addAll(buffer, 0, count);
+        }
+    }
+
+    public void fillRandom(Random random, int origin, int bound)
+    {
+        int [] buffer = new int[(int)Math.min(CHUNK_SIZE, m_length)];
+
+        for (long start = 0; start < m_length; start += CHUNK_SIZE) {
+            int count = (int)Math.min(CHUNK_SIZE, m_length - start);
+
+            for (int i = 0; i < count; ++i)
+                buffer[i] = random.nextInt(origin, bound);
+
+            write(start, buffer, 0, count);
+        }
+    }
+
+    public void force()
+    {
+        if (m_mappedSegments != null)
+            for (MappedByteBuffer segment : m_mappedSegments)
+                segment.force();
+    }
+
+    public int get(long index)
+    {
+        Objects.checkIndex(index, m_length);
+
+        return m_segments[(int)(index >>> SEGMENT_SHIFT)].get((int)(index & SEGMENT_MASK));
+    }
+
+    public long length()
+    {
+        return m_length;
+    }
+
+    public int max()
+    {
+        if (m_length == 0)
+            throw new IllegalStateException("Array is empty");
+
+        int [] buffer = new int[(int)Math.min(CHUNK_SIZE, m_length)];
+        int result = Integer.MIN_VALUE;
+
+        for (long start = 0; start < m_length; start += CHUNK_SIZE) {
+            int count = (int)Math.min(CHUNK_SIZE, m_length - start);
+
+            read(start, buffer, 0, count);
+            result = Math.max(result, ArrayUtil.max(buffer, 0, count));
+        }
+
+        return result;
+    }
+
+    public int min()
+    {
+        if (m_length == 0)
+            throw new IllegalStateException("Array is empty");
+
+        int [] buffer = new int[(int)Math.min(CHUNK_SIZE, m_length)];
+        int result = Integer.MAX_VALUE;
+
+        for (long start = 0; start < m_length; start += CHUNK_SIZE) {
+            int count = (int)Math.min(CHUNK_SIZE, m_length - start);
+
+            read(start, buffer, 0, count);
+            result = Math.min(result, ArrayUtil.min(buffer, 0, count));
+        }
+
+        return result;
+    }
+
+    public void multiplyBy(int value)
+    {
+        int [] buffer = new int[(int)Math.min(CHUNK_SIZE, m_length)];
+
+        for (long start = 0; start < m_length; start += CHUNK_SIZE) {
+            int count = (int)Math.min(CHUNK_SIZE, m_length - start);
+
+            read(start, buffer, 0, count);
+            ArrayUtil.multiplyBy(buffer, 0, count, value);
+            write(start, buffer, 0, count);
+        }
+    }
+
+    public long partition(int threshold)
+    {
+        long left = 0, right = m_length - 1;
+
+        while (true) {
+            while (left <= right && get(left) < threshold)
+                ++left;
+
+            while (left < right && get(right) >= threshold)
+                --right;
+
+            if (left >= right)
+                return left;
+
+            int temp = get(left);
+
+            set(left++, get(right));
+            set(right--, temp);
+        }
+    }
+
+    public void read(long index, int [] dest, int offset, int count)
+    {
+        Objects.checkFromIndexSize(index, count, m_length);
+        Objects.checkFromIndexSize(offset, count, dest.length);
+
+        while (count > 0) {
+            int segment = (int)(index >>> SEGMENT_SHIFT);
+            int position = (int)(index & SEGMENT_MASK);
+            int n = Math.min(count, m_segments[segment].limit() - position);
+
+            m_segments[segment].get(position, dest, offset, n);
+            index += n;
+            offset += n;
+            count -= n;
+        }
+    }
+
+    public void set(long index, int value)
+    {
+        Objects.checkIndex(index, m_length);
+        m_segments[(int)(index >>> SEGMENT_SHIFT)].put((int)(index & SEGMENT_MASK), value);
+    }
+
+    public void sort()
+    {
+        sort(false);
+    }
+
+    public void sort(boolean descending)
+    {
+        sortRuns(descending);
+
+        if (m_length <= RUN_SIZE)
+            return;
+
+        if (m_mappedSegments == null) {
+            mergeRuns(allocate(m_length), descending);
+            return;
+        }
+
+        // A mapped array merges through a mapped scratch file of the same size, removed as soon as the merge is done.
+        // The scratch goes next to the mapped file, since the default temp directory is often small or in memory
+        Path path;
+
+        try {
+            path = Files.createTempFile(m_path.toAbsolutePath().getParent(), m_path.getFileName() + ".", ".sort");
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        try {
+            mergeRuns(map(path, m_length), descending);
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        finally {
+            deleteScratch(path);
+        }
+    }
+
+    public long sum()
+    {
+        int [] buffer = new int[(int)Math.min(CHUNK_SIZE, m_length)];
+        long total = 0;
+
+        for (long start = 0; start < m_length; start += CHUNK_SIZE) {
+            int count = (int)Math.min(CHUNK_SIZE, m_length - start);
+
+            read(start, buffer, 0, count);
+            total += ArrayUtil.sum(buffer, 0, count);
+        }
+
+        return total;
+    }
+
+    public void write(long index, int [] src, int offset, int count)
+    {
+        Objects.checkFromIndexSize(index, count, m_length);
+        Objects.checkFromIndexSize(offset, count, src.length);
+
+        while (count > 0) {
+            int segment = (int)(index >>> SEGMENT_SHIFT);
+            int position = (int)(index & SEGMENT_MASK);
+            int n = Math.min(count, m_segments[segment].limit() - position);
+
+            m_segments[segment].put(position, src, offset, n);
+            index += n;
+            offset += n;
+            count -= n;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package libs.util.array;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+final class ParallelEngine {
+    private static final int DEFAULT_THRESHOLD = 1 << 13;
+    private static volatile int threshold = DEFAULT_THRESHOLD;
+
+    private ParallelEngine()
+    {
+    }
+
+    @SuppressWarnings("serial")
+    private static class SumTask extends RecursiveTask<Long> {
+        private final int [] m_a;
+        private final int m_from;
+        private final int m_to;
+        private final int m_threshold;
+
+        SumTask(int [] a, int from, int to, int threshold)
+        {
+            m_a = a;
+            m_from = from;
+            m_to = to;
+            m_threshold = threshold;
+        }
+
+        @Override
+        protected Long compute()
+        {
+            if (m_to - m_from <= m_threshold)
+                return ArrayKernels.sum(m_a, m_from, m_to);
+
+            int mid = (m_from + m_to) >>> 1;
+            SumTask left = new SumTask(m_a, m_from, mid, m_threshold);
+
+            left.fork();
+
+            return new SumTask(m_a, mid, m_to, m_threshold).compute() + left.join();
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class MinMaxTask extends RecursiveTask<Integer> {
+        private final int [] m_a;
+        private final int m_from;
+        private final int m_to;
+        private final boolean m_max;
+        private final int m_threshold;
+
+        MinMaxTask(int [] a, int from, int to, boolean max, int threshold)
+        {
+            m_a = a;
+            m_from = from;
+            m_to = to;
+            m_max = max;
+            m_threshold = threshold;
+        }
+
+        @Override
+        protected Integer compute()
+        {
+            if (m_to - m_from <= m_threshold)
+                return m_max ? ArrayKernels.max(m_a, m_from, m_to) : ArrayKernels.min(m_a, m_from, m_to);
+
+            int mid = (m_from + m_to) >>> 1;
+            MinMaxTask left = new MinMaxTask(m_a, m_from, mid, m_max, m_threshold);
+
+            left.fork();
+
+            int right = new MinMaxTask(m_a, mid, m_to, m_max, m_threshold).compute();
+            int leftResult = left.join();
+
+            return m_max ? Math.max(leftResult, right) : Math.min(leftResult, right);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class RowMinMaxTask extends RecursiveTask<Integer> {
+        private final int [][] m_a;
+        private final int m_from;
+        private final int m_to;
+        private final boolean m_max;
+
+        RowMinMaxTask(int [][] a, int from, int to, boolean max)
+        {
+            m_a = a;
+            m_from = from;
+            m_to = to;
+            m_max = max;
+        }
+
+        @Override
+        protected Integer compute()
+        {
+            if (m_to - m_from == 1)
+                return m_max ? ArrayUtil.max(m_a[m_from]) : ArrayUtil.min(m_a[m_from]);
+
+            int mid = (m_from + m_to) >>> 1;
+            RowMinMaxTask left = new RowMinMaxTask(m_a, m_from, mid, m_max);
+
+            left.fork();
+
+            int right = new RowMinMaxTask(m_a, mid, m_to, m_max).compute();
+            int leftResult = left.join();
+
+            return m_max ? Math.max(leftResult, right) : Math.min(leftResult, right);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class MultiplyTask extends RecursiveAction {
+        private final int [] m_a;
+        private final int m_from;
+        private final int m_to;
+        private final int m_value;
+        private final int m_threshold;
+
+        MultiplyTask(int [] a, int from, int to, int value, int threshold)
+        {
+            m_a = a;
+            m_from = from;
+            m_to = to;
+            m_value = value;
+            m_threshold = threshold;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (m_to - m_from <= m_threshold) {
+                ArrayKernels.multiplyBy(m_a, m_from, m_to, m_value);
+                return;
+            }
+
+            int mid = (m_from + m_to) >>> 1;
+
+            invokeAll(new MultiplyTask(m_a, m_from, mid, m_value, m_threshold),
+                    new MultiplyTask(m_a, mid, m_to, m_value, m_threshold));
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class RowMultiplyTask extends RecursiveAction {
+        private final int [][] m_a;
+        private final int m_from;
+        private final int m_to;
+        private final int m_value;
+
+        RowMultiplyTask(int [][] a, int from, int to, int value)
+        {
+            m_a = a;
+            m_from = from;
+            m_to = to;
+            m_value = value;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (m_to - m_from == 1) {
+                ArrayUtil.multiplyBy(m_a[m_from], m_value);
+                return;
+            }
+
+            int mid = (m_from + m_to) >>> 1;
+
+            invokeAll(new RowMultiplyTask(m_a, m_from, mid, m_value), new RowMultiplyTask(m_a, mid, m_to, m_value));
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class SortTask extends RecursiveAction {
+        private final int [] m_a;
+        private final int [] m_buffer;
+        private final int m_from;
+        private final int m_to;
+        private final boolean m_descending;
+        private final int m_threshold;
+
+        SortTask(int [] a, int [] buffer, int from, int to, boolean descending, int threshold)
+        {
+            m_a = a;
+            m_buffer = buffer;
+            m_from = from;
+            m_to = to;
+            m_descending = descending;
+            m_threshold = threshold;
+        }
+
+        private void merge(int mid)
+        {
+            int i = m_from, k = mid, idx = m_from;
+
+            while (i < mid && k < m_to)
+                m_buffer[idx++] = (m_descending ? m_a[i] >= m_a[k] : m_a[i] <= m_a[k]) ? m_a[i++] : m_a[k++];
+
+            System.arraycopy(m_a, i, m_buffer, idx, mid - i);
+            idx += mid - i;
+            System.arraycopy(m_a, k, m_buffer, idx, m_to - k);
+            System.arraycopy(m_buffer, m_from, m_a, m_from, m_to - m_from);
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (m_to - m_from <= m_threshold) {
+                SortEngine.quickSort(m_a, m_from, m_to, m_descending);
+                return;
+            }
+
+            int mid = (m_from + m_to) >>> 1;
+
+            invokeAll(new SortTask(m_a, m_buffer, m_from, mid, m_descending, m_threshold),
+                    new SortTask(m_a, m_buffer, mid, m_to, m_descending, m_threshold));
+            merge(mid);
+        }
+    }
+
+    private static ForkJoinPool pool()
+    {
+        return ForkJoinPool.commonPool();
+    }
+
+    static int getThreshold()
+    {
+        return threshold;
+    }
+
+    static void setThreshold(int value)
+    {
+        if (value < 1)
+            throw new IllegalArgumentException("Threshold must be positive:" + value);
+
+        threshold = value;
+    }
+
+    static int max(int [] a, int startIndex)
+    {
+        if (startIndex < 0 || startIndex >= a.length)
+            throw new ArrayIndexOutOfBoundsException(startIndex);
+
+        return pool().invoke(new MinMaxTask(a, startIndex, a.length, true, threshold));
+    }
+
+    static int max(int [][] a)
+    {
+        return a.length == 0 ? Integer.MIN_VALUE : pool().invoke(new RowMinMaxTask(a, 0, a.length, true));
+    }
+
+    static int min(int [] a, int startIndex)
+    {
+        if (startIndex < 0 || startIndex >= a.length)
+            throw new ArrayIndexOutOfBoundsException(startIndex);
+
+        return pool().invoke(new MinMaxTask(a, startIndex, a.length, false, threshold));
+    }
+
+    static int min(int [][] a)
+    {
+        return a.length == 0 ? Integer.MAX_VALUE : pool().invoke(new RowMinMaxTask(a, 0, a.length, false));
+    }
+
+    static void multiplyBy(int [] a, int value)
+    {
+        pool().invoke(new MultiplyTask(a, 0, a.length, value, threshold));
+    }
+
+    static void multiplyBy(int [][] a, int value)
+    {
+        if (a.length != 0)
+            pool().invoke(new RowMultiplyTask(a, 0, a.length, value));
+    }
+
+    static void sort(int [] a, boolean descending)
+    {
+        int limit = threshold;
+
+        if (a.length <= limit) {
+            SortEngine.sort(a, descending);
+            return;
+        }
+
+        pool().invoke(new SortTask(a, new int[a.length], 0, a.length, descending, limit));
+    }
+
+    static long sum(int [] a)
+    {
+        return pool().invoke(new SumTask(a, 0, a.length, threshold));
+    }
+}
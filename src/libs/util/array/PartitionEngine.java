@@ -0,0 +1,155 @@
+package libs.util.array;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+final class PartitionEngine {
+    private static final int SELECT_SORT_THRESHOLD = 16;
+
+    private PartitionEngine()
+    {
+    }
+
+    static int partition(int [] a, int fromIndex, int toIndex, IntPredicate predicate)
+    {
+        int partitionPoint = fromIndex;
+
+        while (partitionPoint != toIndex && predicate.test(a[partitionPoint]))
+            ++partitionPoint;
+
+        if (partitionPoint == toIndex)
+            return partitionPoint;
+
+        for (int i = partitionPoint + 1; i < toIndex; ++i)
+            if (predicate.test(a[i]))
+                ArrayUtil.swap(a, i, partitionPoint++);
+
+        return partitionPoint;
+    }
+
+    static int stablePartition(int [] a, int fromIndex, int toIndex, IntPredicate predicate)
+    {
+        int [] rejected = new int[toIndex - fromIndex];
+        int partitionPoint = fromIndex;
+        int rejectedCount = 0;
+
+        for (int i = fromIndex; i < toIndex; ++i) {
+            int val = a[i];
+
+            if (predicate.test(val))
+                a[partitionPoint++] = val;
+            else
+                rejected[rejectedCount++] = val;
+        }
+
+        System.arraycopy(rejected, 0, a, partitionPoint, rejectedCount);
+
+        return partitionPoint;
+    }
+
+    // Returns the bounds {lt, gt} such that [from, lt) < pivot, [lt, gt) == pivot and [gt, to) > pivot
+    static long partitionThreeWay(int [] a, int fromIndex, int toIndex, int pivot)
+    {
+        int lt = fromIndex, i = fromIndex, gt = toIndex;
+
+        while (i < gt) {
+            int val = a[i];
+
+            if (val < pivot)
+                ArrayUtil.swap(a, lt++, i++);
+            else if (val > pivot)
+                ArrayUtil.swap(a, i, --gt);
+            else
+                ++i;
+        }
+
+        return ((long)lt << 32) | gt;
+    }
+
+    static int parallelPartition(int [] a, int fromIndex, int toIndex, IntPredicate predicate)
+    {
+        int n = toIndex - fromIndex;
+        int blockSize = Math.max(ParallelEngine.getThreshold(), n / (4 * ForkJoinPool.getCommonPoolParallelism()) + 1);
+
+        if (n <= blockSize)
+            return stablePartition(a, fromIndex, toIndex, predicate);
+
+        int blockCount = (n + blockSize - 1) / blockSize;
+        int [] acceptedCounts = new int[blockCount];
+
+        IntStream.range(0, blockCount).parallel().forEach(block -> {
+            int start = fromIndex + block * blockSize;
+            int end = start + Math.min(blockSize, toIndex - start);
+            int count = 0;
+
+            for (int i = start; i < end; ++i)
+                if (predicate.test(a[i]))
+                    ++count;
+
+            acceptedCounts[block] = count;
+        });
+
+        int [] acceptedOffsets = new int[blockCount];
+        int totalAccepted = 0;
+
+        for (int block = 0; block < blockCount; ++block) {
+            acceptedOffsets[block] = totalAccepted;
+            totalAccepted += acceptedCounts[block];
+        }
+
+        int accepted = totalAccepted;
+        int [] scratch = new int[n];
+
+        IntStream.range(0, blockCount).parallel().forEach(block -> {
+            int start = fromIndex + block * blockSize;
+            int end = start + Math.min(blockSize, toIndex - start);
+            int acceptedIndex = acceptedOffsets[block];
+            int rejectedIndex = accepted + (start - fromIndex) - acceptedOffsets[block];
+
+            for (int i = start; i < end; ++i) {
+                int val = a[i];
+
+                if (predicate.test(val))
+                    scratch[acceptedIndex++] = val;
+                else
+                    scratch[rejectedIndex++] = val;
+            }
+        });
+
+        IntStream.range(0, blockCount).parallel().forEach(block -> {
+            int start = block * blockSize;
+
+            System.arraycopy(scratch, start, a, fromIndex + start, Math.min(blockSize, n - start));
+        });
+
+        return fromIndex + totalAccepted;
+    }
+
+    static int select(int [] a, int fromIndex, int toIndex, int k)
+    {
+        int left = fromIndex, right = toIndex;
+        int depth = 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(toIndex - fromIndex));
+
+        while (right - left > SELECT_SORT_THRESHOLD) {
+            if (depth-- == 0)
+                break;
+
+            int x = a[left], y = a[(left + right) >>> 1], z = a[right - 1];
+            int pivot = Math.max(Math.min(x, y), Math.min(Math.max(x, y), z));
+            long bounds = partitionThreeWay(a, left, right, pivot);
+            int lt = (int)(bounds >>> 32), gt = (int)bounds;
+
+            if (k < lt)
+                right = lt;
+            else if (k >= gt)
+                left = gt;
+            else
+                return pivot;
+        }
+
+        SortEngine.quickSort(a, left, right, false);
+
+        return a[k];
+    }
+}
@@ -0,0 +1,201 @@
+package libs.util.array;
+
+final class SortEngine {
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+    private static final int RADIX_SORT_THRESHOLD = 1 << 16;
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX_SIZE = 1 << RADIX_BITS;
+    private static final int RADIX_MASK = RADIX_SIZE - 1;
+    private static final int RADIX_PASS_COUNT = Integer.SIZE / RADIX_BITS;
+
+    private SortEngine()
+    {
+    }
+
+    private static boolean less(int x, int y, boolean descending)
+    {
+        return descending ? y < x : x < y;
+    }
+
+    private static int depthLimit(int length)
+    {
+        return 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(length));
+    }
+
+    private static void insertionSort(int [] a, int left, int right, boolean descending)
+    {
+        for (int i = left + 1; i <= right; ++i) {
+            int val = a[i];
+            int k = i - 1;
+
+            while (k >= left && less(val, a[k], descending)) {
+                a[k + 1] = a[k];
+                --k;
+            }
+
+            a[k + 1] = val;
+        }
+    }
+
+    private static void siftDown(int [] a, int left, int i, int count, boolean descending)
+    {
+        int val = a[left + i];
+
+        for (int child; (child = 2 * i + 1) < count; i = child) {
+            if (child + 1 < count && less(a[left + child], a[left + child + 1], descending))
+                ++child;
+
+            if (!less(val, a[left + child], descending))
+                break;
+
+            a[left + i] = a[left + child];
+        }
+
+        a[left + i] = val;
+    }
+
+    private static void heapSort(int [] a, int left, int right, boolean descending)
+    {
+        int count = right - left + 1;
+
+        for (int i = count / 2 - 1; i >= 0; --i)
+            siftDown(a, left, i, count, descending);
+
+        for (int i = count - 1; i > 0; --i) {
+            ArrayUtil.swap(a, left, left + i);
+            siftDown(a, left, 0, i, descending);
+        }
+    }
+
+    private static void dualPivotQuickSort(int [] a, int left, int right, int depth, boolean descending)
+    {
+        if (right - left < INSERTION_SORT_THRESHOLD) {
+            insertionSort(a, left, right, descending);
+            return;
+        }
+
+        if (depth == 0) {
+            heapSort(a, left, right, descending);
+            return;
+        }
+
+        int third = (right - left) / 3;
+        int m1 = left + third;
+        int m2 = right - third;
+
+        if (less(a[m2], a[m1], descending))
+            ArrayUtil.swap(a, m1, m2);
+
+        ArrayUtil.swap(a, left, m1);
+        ArrayUtil.swap(a, right, m2);
+
+        int pivot1 = a[left];
+        int pivot2 = a[right];
+        int lt = left + 1;
+        int gt = right - 1;
+        int i = lt;
+
+        while (i <= gt) {
+            if (less(a[i], pivot1, descending))
+                ArrayUtil.swap(a, lt++, i++);
+            else if (less(pivot2, a[i], descending))
+                ArrayUtil.swap(a, i, gt--);
+            else
+                ++i;
+        }
+
+        ArrayUtil.swap(a, left, --lt);
+        ArrayUtil.swap(a, right, ++gt);
+
+        dualPivotQuickSort(a, left, lt - 1, depth - 1, descending);
+
+        if (less(pivot1, pivot2, descending))
+            dualPivotQuickSort(a, lt + 1, gt - 1, depth - 1, descending);
+
+        dualPivotQuickSort(a, gt + 1, right, depth - 1, descending);
+    }
+
+    static void quickSort(int [] a, boolean descending)
+    {
+        quickSort(a, 0, a.length, descending);
+    }
+
+    static void quickSort(int [] a, int fromIndex, int toIndex, boolean descending)
+    {
+        if (toIndex - fromIndex < 2)
+            return;
+
+        dualPivotQuickSort(a, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex), descending);
+    }
+
+    static void radixSort(int [] a, boolean descending)
+    {
+        radixSort(a, 0, a.length, descending);
+    }
+
+    static void radixSort(int [] a, int fromIndex, int toIndex, boolean descending)
+    {
+        int n = toIndex - fromIndex;
+
+        if (n < 2)
+            return;
+
+        // Flipping the sign bit orders ints as unsigned keys, flipping the rest as well reverses that order
+        int flip = descending ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+        int [][] counts = new int[RADIX_PASS_COUNT][RADIX_SIZE];
+
+        for (int i = fromIndex; i < toIndex; ++i) {
+            int key = a[i] ^ flip;
+
+            for (int pass = 0; pass < RADIX_PASS_COUNT; ++pass)
+                ++counts[pass][(key >>> (pass * RADIX_BITS)) & RADIX_MASK];
+        }
+
+        int [] src = a;
+        int [] dest = new int[n];
+        int srcOffset = fromIndex;
+        int destOffset = 0;
+
+        for (int pass = 0; pass < RADIX_PASS_COUNT; ++pass) {
+            int shift = pass * RADIX_BITS;
+            int [] count = counts[pass];
+
+            if (count[((src[srcOffset] ^ flip) >>> shift) & RADIX_MASK] == n)
+                continue;
+
+            for (int i = 0, offset = destOffset; i < RADIX_SIZE; ++i) {
+                int c = count[i];
+
+                count[i] = offset;
+                offset += c;
+            }
+
+            for (int i = srcOffset; i < srcOffset + n; ++i)
+                dest[count[((src[i] ^ flip) >>> shift) & RADIX_MASK]++] = src[i];
+
+            int [] temp = src;
+            int tempOffset = srcOffset;
+
+            src = dest;
+            srcOffset = destOffset;
+            dest = temp;
+            destOffset = tempOffset;
+        }
+
+        if (src != a)
+            System.arraycopy(src, srcOffset, a, fromIndex, n);
+    }
+
+    static void sort(int [] a, boolean descending)
+    {
+        sort(a, 0, a.length, descending);
+    }
+
+    static void sort(int [] a, int fromIndex, int toIndex, boolean descending)
+    {
+        if (toIndex - fromIndex >= RADIX_SORT_THRESHOLD)
+            radixSort(a, fromIndex, toIndex, descending);
+        else
+            quickSort(a, fromIndex, toIndex, descending);
+    }
+}
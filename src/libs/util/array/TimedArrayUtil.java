@@ -0,0 +1,84 @@
+package libs.util.array;
+
+import libs.util.thread.LatencyHistogram;
+import libs.util.thread.MetricsRegistry;
+
+import java.util.Random;
+import java.util.function.IntPredicate;
+
+// Opt-in timed entry points: each call is recorded in the default MetricsRegistry under "ArrayUtil.<method>"
+public class TimedArrayUtil {
+    private TimedArrayUtil() {}
+
+    private static final LatencyHistogram GENERATE_RANDOM_ARRAY = MetricsRegistry.getDefault().histogram("ArrayUtil.generateRandomArray");
+    private static final LatencyHistogram MAX = MetricsRegistry.getDefault().histogram("ArrayUtil.max");
+    private static final LatencyHistogram MEDIAN = MetricsRegistry.getDefault().histogram("ArrayUtil.median");
+    private static final LatencyHistogram MIN = MetricsRegistry.getDefault().histogram("ArrayUtil.min");
+    private static final LatencyHistogram MULTIPLY_BY = MetricsRegistry.getDefault().histogram("ArrayUtil.multiplyBy");
+    private static final LatencyHistogram PARALLEL_SORT = MetricsRegistry.getDefault().histogram("ArrayUtil.parallelSort");
+    private static final LatencyHistogram PARALLEL_SUM = MetricsRegistry.getDefault().histogram("ArrayUtil.parallelSum");
+    private static final LatencyHistogram PARTITION = MetricsRegistry.getDefault().histogram("ArrayUtil.partition");
+    private static final LatencyHistogram SELECT = MetricsRegistry.getDefault().histogram("ArrayUtil.select");
+    private static final LatencyHistogram SORT = MetricsRegistry.getDefault().histogram("ArrayUtil.sort");
+    private static final LatencyHistogram SUM = MetricsRegistry.getDefault().histogram("ArrayUtil.sum");
+
+    public static int [] generateRandomArray(Random random, int count, int origin, int bound)
+    {
+        return GENERATE_RANDOM_ARRAY.time(() -> ArrayUtil.generateRandomArray(random, count, origin, bound));
+    }
+
+    public static int max(int [] a)
+    {
+        return MAX.time(() -> ArrayUtil.max(a));
+    }
+
+    public static double median(int [] a)
+    {
+        return MEDIAN.time(() -> ArrayUtil.median(a));
+    }
+
+    public static int min(int [] a)
+    {
+        return MIN.time(() -> ArrayUtil.min(a));
+    }
+
+    public static void multiplyBy(int [] a, int value)
+    {
+        MULTIPLY_BY.time(() -> ArrayUtil.multiplyBy(a, value));
+    }
+
+    public static void parallelSort(int [] a)
+    {
+        PARALLEL_SORT.time(() -> ArrayUtil.parallelSort(a));
+    }
+
+    public static long parallelSum(int [] a)
+    {
+        return PARALLEL_SUM.time(() -> ArrayUtil.parallelSum(a));
+    }
+
+    public static int partition(int [] a, IntPredicate predicate)
+    {
+        return PARTITION.time(() -> ArrayUtil.partition(a, predicate));
+    }
+
+    public static int select(int [] a, int k)
+    {
+        return SELECT.time(() -> ArrayUtil.select(a, k));
+    }
+
+    public static void sort(int [] a)
+    {
+        SORT.time(() -> ArrayUtil.sort(a));
+    }
+
+    public static void sort(int [] a, boolean descending)
+    {
+        SORT.time(() -> ArrayUtil.sort(a, descending));
+    }
+
+    public static long sum(int [] a)
+    {
+        return SUM.time(() -> ArrayUtil.sum(a));
+    }
+}
@@ -0,0 +1,145 @@
+package libs.util.array;
+
+import java.util.stream.IntStream;
+
+public class TopK {
+    private final int [] m_heap;
+    private final boolean m_largest;
+    private int m_size;
+
+    // Values are stored as keys in a min-heap; ~val reverses the order exactly, so the smallest mode needs no special case
+    private TopK(int k, boolean largest)
+    {
+        if (k < 1)
+            throw new IllegalArgumentException("k must be positive:" + k);
+
+        m_heap = new int[k];
+        m_largest = largest;
+    }
+
+    private int toKey(int val)
+    {
+        return m_largest ? val : ~val;
+    }
+
+    private void siftUp(int i)
+    {
+        int key = m_heap[i];
+
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+
+            if (m_heap[parent] <= key)
+                break;
+
+            m_heap[i] = m_heap[parent];
+            i = parent;
+        }
+
+        m_heap[i] = key;
+    }
+
+    private void siftDown(int i)
+    {
+        int key = m_heap[i];
+
+        for (int child; (child = 2 * i + 1) < m_size; i = child) {
+            if (child + 1 < m_size && m_heap[child + 1] < m_heap[child])
+                ++child;
+
+            if (key <= m_heap[child])
+                break;
+
+            m_heap[i] = m_heap[child];
+        }
+
+        m_heap[i] = key;
+    }
+
+    public static TopK createLargest(int k)
+    {
+        return new TopK(k, true);
+    }
+
+    public static TopK createSmallest(int k)
+    {
+        return new TopK(k, false);
+    }
+
+    public void add(int val)
+    {
+        int key = toKey(val);
+
+        if (m_size < m_heap.length) {
+            m_heap[m_size] = key;
+            siftUp(m_size++);
+        }
+        else if (m_heap[0] < key) {
+            m_heap[0] = key;
+            siftDown(0);
+        }
+    }
+
+    public void addAll(int [] a)
+    {
+        for (int val : a)
+            add(val);
+    }
+
+    public void addAll(IntStream stream)
+    {
+        int k = m_heap.length;
+        boolean largest = m_largest;
+
+        merge(stream.collect(() -> new TopK(k, largest), TopK::add, TopK::merge));
+    }
+
+    public int getK()
+    {
+        return m_heap.length;
+    }
+
+    public boolean isLargest()
+    {
+        return m_largest;
+    }
+
+    public void merge(TopK other)
+    {
+        if (m_largest != other.m_largest)
+            throw new IllegalArgumentException("Can not merge largest and smallest accumulators");
+
+        for (int i = 0; i < other.m_size; ++i)
+            add(other.m_largest ? other.m_heap[i] : ~other.m_heap[i]);
+    }
+
+    public int peek()
+    {
+        if (m_size == 0)
+            throw new IllegalStateException("No values");
+
+        return toKey(m_heap[0]);
+    }
+
+    public void reset()
+    {
+        m_size = 0;
+    }
+
+    public int size()
+    {
+        return m_size;
+    }
+
+    public int [] toArray()
+    {
+        int [] result = new int[m_size];
+
+        for (int i = 0; i < m_size; ++i)
+            result[i] = toKey(m_heap[i]);
+
+        ArrayUtil.sort(result, m_largest);
+
+        return result;
+    }
+}
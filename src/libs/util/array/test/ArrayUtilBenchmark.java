@@ -0,0 +1,88 @@
+package libs.util.array.test;
+
+import libs.util.array.ArrayUtil;
+import libs.util.benchmark.BenchmarkRunner;
+
+public class ArrayUtilBenchmark {
+    private static final int [] SIZES = {1_000, 100_000, 1_000_000};
+    private static final int [] SIMPLE_SORT_SIZES = {16, 64};
+
+    // The plain loops ArrayUtil used before its kernels were restructured, kept as the baseline for them
+    private static long scalarSum(int [] a)
+    {
+        long total = 0;
+
+        for (int val : a)
+            total += val;
+
+        return total;
+    }
+
+    private static int scalarMax(int [] a)
+    {
+        int result = a[0];
+
+        for (int i = 1; i < a.length; ++i)
+            result = Math.max(result, a[i]);
+
+        return result;
+    }
+
+    private static int scalarMin(int [] a)
+    {
+        int result = a[0];
+
+        for (int i = 1; i < a.length; ++i)
+            result = Math.min(result, a[i]);
+
+        return result;
+    }
+
+    private static void run(BenchmarkRunner runner)
+    {
+        for (int size : SIMPLE_SORT_SIZES) {
+            int [] data = ArrayUtil.generateRandomArray(runner.newRandom(), size, -1_000_000, 1_000_000);
+
+            runner.run("ArrayUtil.bubbleSort", size, data::clone, a -> {ArrayUtil.bubbleSort(a); return a[0];});
+            runner.run("ArrayUtil.selectionSort", size, data::clone, a -> {ArrayUtil.selectionSort(a); return a[0];});
+        }
+
+        for (int size : SIZES) {
+            int [] data = ArrayUtil.generateRandomArray(runner.newRandom(), size, -1_000_000, 1_000_000);
+            int [] grades = ArrayUtil.generateRandomArray(runner.newRandom(), size, 0, 101);
+            int [][] matrix = {data, data.clone(), data.clone(), data.clone()};
+
+            runner.run("ArrayUtil.generateRandomArray", size, runner::newRandom, r -> ArrayUtil.generateRandomArray(r, size, 0, 100)[0]);
+            runner.run("scalar sum (baseline)", size, () -> data, ArrayUtilBenchmark::scalarSum);
+            runner.run("ArrayUtil.sum", size, () -> data, ArrayUtil::sum);
+            runner.run("ArrayUtil.parallelSum", size, () -> data, ArrayUtil::parallelSum);
+            runner.run("ArrayUtil.average", size, () -> data, a -> (long)ArrayUtil.average(a));
+            runner.run("scalar max (baseline)", size, () -> data, ArrayUtilBenchmark::scalarMax);
+            runner.run("ArrayUtil.max", size, () -> data, ArrayUtil::max);
+            runner.run("ArrayUtil.parallelMax", size, () -> data, ArrayUtil::parallelMax);
+            runner.run("scalar min (baseline)", size, () -> data, ArrayUtilBenchmark::scalarMin);
+            runner.run("ArrayUtil.min", size, () -> data, ArrayUtil::min);
+            runner.run("ArrayUtil.parallelMin", size, () -> data, ArrayUtil::parallelMin);
+            runner.run("ArrayUtil.max(int[][])", size, () -> matrix, ArrayUtil::max);
+            runner.run("ArrayUtil.parallelMax(int[][])", size, () -> matrix, ArrayUtil::parallelMax);
+            runner.run("ArrayUtil.multiplyBy", size, data::clone, a -> {ArrayUtil.multiplyBy(a, 3); return a[0];});
+            runner.run("ArrayUtil.parallelMultiplyBy", size, data::clone, a -> {ArrayUtil.parallelMultiplyBy(a, 3); return a[0];});
+            runner.run("ArrayUtil.partition", size, data::clone, a -> ArrayUtil.partition(a, 0));
+            runner.run("ArrayUtil.partitionByEven", size, data::clone, ArrayUtil::partitionByEven);
+            runner.run("ArrayUtil.histogramData", size, () -> grades, a -> ArrayUtil.histogramData(a, 100)[0]);
+            runner.run("ArrayUtil.sort", size, data::clone, a -> {ArrayUtil.sort(a); return a[0];});
+            runner.run("ArrayUtil.sort(descending)", size, data::clone, a -> {ArrayUtil.sort(a, true); return a[0];});
+            runner.run("ArrayUtil.quickSort", size, data::clone, a -> {ArrayUtil.quickSort(a); return a[0];});
+            runner.run("ArrayUtil.radixSort", size, data::clone, a -> {ArrayUtil.radixSort(a); return a[0];});
+            runner.run("ArrayUtil.parallelSort", size, data::clone, a -> {ArrayUtil.parallelSort(a); return a[0];});
+        }
+    }
+
+    public static void main(String[] args)
+    {
+        BenchmarkRunner runner = BenchmarkRunner.fromArgs(args);
+
+        run(runner);
+        runner.finish();
+    }
+}
@@ -0,0 +1,69 @@
+package libs.util.benchmark;
+
+import java.util.Locale;
+
+public class BenchmarkResult {
+    private final String m_name;
+    private final int m_size;
+    private final long m_operationCount;
+    private final double m_meanNanos;
+    private final double m_stdDevNanos;
+    private final double m_minNanos;
+
+    public BenchmarkResult(String name, int size, long operationCount, double meanNanos, double stdDevNanos, double minNanos)
+    {
+        m_name = name;
+        m_size = size;
+        m_operationCount = operationCount;
+        m_meanNanos = meanNanos;
+        m_stdDevNanos = stdDevNanos;
+        m_minNanos = minNanos;
+    }
+
+    public String getName()
+    {
+        return m_name;
+    }
+
+    public int getSize()
+    {
+        return m_size;
+    }
+
+    public long getOperationCount()
+    {
+        return m_operationCount;
+    }
+
+    public double getMeanNanos()
+    {
+        return m_meanNanos;
+    }
+
+    public double getStdDevNanos()
+    {
+        return m_stdDevNanos;
+    }
+
+    public double getMinNanos()
+    {
+        return m_minNanos;
+    }
+
+    public double getOperationsPerSecond()
+    {
+        return 1_000_000_000 / m_meanNanos;
+    }
+
+    public String toJson()
+    {
+        return String.format(Locale.ROOT, "{\"name\":\"%s\",\"size\":%d,\"operations\":%d,\"meanNanos\":%.3f,\"stdDevNanos\":%.3f,\"minNanos\":%.3f,\"opsPerSecond\":%.3f}",
+                m_name.replace("\\", "\\\\").replace("\"", "\\\""), m_size, m_operationCount, m_meanNanos,
+                m_stdDevNanos, m_minNanos, getOperationsPerSecond());
+    }
+
+    public String toString()
+    {
+        return "%-40s %10d %16.1f ns/op +- %.1f %14.1f ops/s".formatted(m_name, m_size, m_meanNanos, m_stdDevNanos, getOperationsPerSecond());
+    }
+}
@@ -0,0 +1,166 @@
+package libs.util.benchmark;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+public class BenchmarkRunner {
+    private static final long DEFAULT_SEED = 2024;
+    private static final int DEFAULT_WARMUP_ITERATIONS = 5;
+    private static final int DEFAULT_MEASUREMENT_ITERATIONS = 10;
+    private static final long DEFAULT_ITERATION_NANOS = 100_000_000;
+
+    private final long m_seed;
+    private final int m_warmupIterations;
+    private final int m_measurementIterations;
+    private final long m_iterationNanos;
+    private final Path m_jsonPath;
+    private final PrintStream m_out;
+    private final List<BenchmarkResult> m_results = new ArrayList<>();
+    private volatile long m_sink;
+
+    public BenchmarkRunner(long seed, int warmupIterations, int measurementIterations, long iterationNanos, Path jsonPath, PrintStream out)
+    {
+        if (warmupIterations < 0 || measurementIterations < 1 || iterationNanos < 1)
+            throw new IllegalArgumentException("Invalid benchmark iteration settings");
+
+        m_seed = seed;
+        m_warmupIterations = warmupIterations;
+        m_measurementIterations = measurementIterations;
+        m_iterationNanos = iterationNanos;
+        m_jsonPath = jsonPath;
+        m_out = out;
+    }
+
+    public static BenchmarkRunner fromArgs(String [] args)
+    {
+        long seed = DEFAULT_SEED;
+        int warmupIterations = DEFAULT_WARMUP_ITERATIONS;
+        int measurementIterations = DEFAULT_MEASUREMENT_ITERATIONS;
+        long iterationNanos = DEFAULT_ITERATION_NANOS;
+        Path jsonPath = null;
+
+        for (int i = 0; i < args.length; ++i) {
+            if (i + 1 == args.length)
+                throw new IllegalArgumentException("Missing value for " + args[i]);
+
+            String value = args[++i];
+
+            switch (args[i - 1]) {
+                case "-seed" -> seed = Long.parseLong(value);
+                case "-warmup" -> warmupIterations = Integer.parseInt(value);
+                case "-iterations" -> measurementIterations = Integer.parseInt(value);
+                case "-time" -> iterationNanos = Long.parseLong(value) * 1_000_000;
+                case "-json" -> jsonPath = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option:" + args[i - 1]);
+            }
+        }
+
+        return new BenchmarkRunner(seed, warmupIterations, measurementIterations, iterationNanos, jsonPath, System.out);
+    }
+
+    public Random newRandom()
+    {
+        return new Random(m_seed);
+    }
+
+    public long getSeed()
+    {
+        return m_seed;
+    }
+
+    public List<BenchmarkResult> getResults()
+    {
+        return Collections.unmodifiableList(m_results);
+    }
+
+    public <S> BenchmarkResult run(String name, int size, Supplier<S> setup, ToLongFunction<S> operation)
+    {
+        for (int i = 0; i < m_warmupIterations; ++i)
+            measure(setup, operation);
+
+        double [] samples = new double[m_measurementIterations];
+        long operationCount = 0;
+
+        for (int i = 0; i < m_measurementIterations; ++i) {
+            long [] measurement = measure(setup, operation);
+
+            samples[i] = measurement[0] / (double)measurement[1];
+            operationCount += measurement[1];
+        }
+
+        double mean = 0, min = Double.MAX_VALUE;
+
+        for (double sample : samples) {
+            mean += sample;
+            min = Math.min(min, sample);
+        }
+
+        mean /= samples.length;
+
+        double variance = 0;
+
+        for (double sample : samples)
+            variance += (sample - mean) * (sample - mean);
+
+        BenchmarkResult result = new BenchmarkResult(name, size, operationCount, mean, Math.sqrt(variance / samples.length), min);
+
+        m_results.add(result);
+        m_out.println(result);
+
+        return result;
+    }
+
+    public void finish()
+    {
+        if (m_jsonPath == null)
+            return;
+
+        try (Writer writer = Files.newBufferedWriter(m_jsonPath, StandardCharsets.UTF_8)) {
+            writer.write("{\"seed\":%d,\"results\":[".formatted(m_seed));
+
+            for (int i = 0; i < m_results.size(); ++i) {
+                if (i != 0)
+                    writer.write(',');
+
+                writer.write(System.lineSeparator());
+                writer.write(m_results.get(i).toJson());
+            }
+
+            writer.write(System.lineSeparator() + "]}" + System.lineSeparator());
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        m_out.printf("Results written to %s (sink:%d)%n", m_jsonPath, m_sink);
+    }
+
+    private <S> long [] measure(Supplier<S> setup, ToLongFunction<S> operation)
+    {
+        long elapsed = 0, count = 0, sink = 0;
+
+        while (elapsed < m_iterationNanos) {
+            S state = setup.get();
+            long start = System.nanoTime();
+
+            sink += operation.applyAsLong(state);
+            elapsed += System.nanoTime() - start;
+            ++count;
+        }
+
+        m_sink += sink;
+
+        return new long[] {elapsed, count};
+    }
+}
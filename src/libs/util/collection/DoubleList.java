@@ -0,0 +1,228 @@
+package libs.util.collection;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+
+public class DoubleList {
+    private static final int DEFAULT_CAPACITY = 10;
+    private double [] m_items;
+    private int m_size;
+
+    private DoubleList(double [] items, int size)
+    {
+        m_items = items;
+        m_size = size;
+    }
+
+    private void grow(int minCapacity)
+    {
+        int newCapacity = Math.max(minCapacity, m_items.length + (m_items.length >> 1) + 1);
+
+        m_items = Arrays.copyOf(m_items, newCapacity);
+    }
+
+    private void checkNotEmpty()
+    {
+        if (m_size == 0)
+            throw new IllegalStateException("List is empty");
+    }
+
+    public DoubleList()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DoubleList(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Capacity can not be negative:" + initialCapacity);
+
+        m_items = new double[initialCapacity];
+    }
+
+    public static DoubleList of(double... values)
+    {
+        return new DoubleList(values.clone(), values.length);
+    }
+
+    public static DoubleList wrap(double [] a)
+    {
+        return new DoubleList(a, a.length);
+    }
+
+    public void add(double value)
+    {
+        if (m_size == m_items.length)
+            grow(m_size + 1);
+
+        m_items[m_size++] = value;
+    }
+
+    public void addAll(double [] a)
+    {
+        addAll(a, 0, a.length);
+    }
+
+    public void addAll(double [] a, int fromIndex, int toIndex)
+    {
+        Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+
+        int count = toIndex - fromIndex;
+
+        ensureCapacity(m_size + count);
+        System.arraycopy(a, fromIndex, m_items, m_size, count);
+        m_size += count;
+    }
+
+    public void addAll(DoubleList other)
+    {
+        addAll(other.m_items, 0, other.m_size);
+    }
+
+    public double average()
+    {
+        checkNotEmpty();
+
+        return sum() / m_size;
+    }
+
+    public int capacity()
+    {
+        return m_items.length;
+    }
+
+    public void clear()
+    {
+        m_size = 0;
+    }
+
+    public double [] elements()
+    {
+        return m_items;
+    }
+
+    public void ensureCapacity(int minCapacity)
+    {
+        if (minCapacity > m_items.length)
+            grow(minCapacity);
+    }
+
+    public void forEach(DoubleConsumer action)
+    {
+        for (int i = 0; i < m_size; ++i)
+            action.accept(m_items[i]);
+    }
+
+    public double get(int index)
+    {
+        return m_items[Objects.checkIndex(index, m_size)];
+    }
+
+    public boolean isEmpty()
+    {
+        return m_size == 0;
+    }
+
+    public double max()
+    {
+        checkNotEmpty();
+
+        double result = m_items[0];
+
+        for (int i = 1; i < m_size; ++i)
+            result = Math.max(result, m_items[i]);
+
+        return result;
+    }
+
+    public double min()
+    {
+        checkNotEmpty();
+
+        double result = m_items[0];
+
+        for (int i = 1; i < m_size; ++i)
+            result = Math.min(result, m_items[i]);
+
+        return result;
+    }
+
+    public double removeAt(int index)
+    {
+        double oldValue = m_items[Objects.checkIndex(index, m_size)];
+
+        System.arraycopy(m_items, index + 1, m_items, index, m_size - index - 1);
+        --m_size;
+
+        return oldValue;
+    }
+
+    public double removeLast()
+    {
+        if (m_size == 0)
+            throw new IndexOutOfBoundsException("List is empty");
+
+        return m_items[--m_size];
+    }
+
+    public double set(int index, double value)
+    {
+        double oldValue = m_items[Objects.checkIndex(index, m_size)];
+
+        m_items[index] = value;
+
+        return oldValue;
+    }
+
+    public int size()
+    {
+        return m_size;
+    }
+
+    public void sort()
+    {
+        Arrays.sort(m_items, 0, m_size);
+    }
+
+    public DoubleStream stream()
+    {
+        return Arrays.stream(m_items, 0, m_size);
+    }
+
+    public double sum()
+    {
+        double total = 0;
+
+        for (int i = 0; i < m_size; ++i)
+            total += m_items[i];
+
+        return total;
+    }
+
+    public double [] toArray()
+    {
+        return Arrays.copyOf(m_items, m_size);
+    }
+
+    public void trimToSize()
+    {
+        if (m_size < m_items.length)
+            m_items = Arrays.copyOf(m_items, m_size);
+    }
+
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder("[");
+
+        for (int i = 0; i < m_size; ++i) {
+            if (i != 0)
+                sb.append(", ");
+
+            sb.append(m_items[i]);
+        }
+
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,35 @@
+package libs.util.collection;
+
+final class Hashing {
+    static final int MAX_CAPACITY = 1 << 30;
+    private static final int MIN_CAPACITY = 4;
+
+    private Hashing()
+    {
+    }
+
+    static int mix(int key)
+    {
+        int h = key * 0x9E3779B9;
+
+        return h ^ (h >>> 16);
+    }
+
+    static int capacityFor(int expectedSize)
+    {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("Expected size can not be negative:" + expectedSize);
+
+        long needed = (long)Math.ceil(expectedSize / 0.75) + 1;
+
+        if (needed > MAX_CAPACITY)
+            throw new IllegalArgumentException("Expected size too large:" + expectedSize);
+
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int)needed - 1) << 1);
+    }
+
+    static int maxFill(int capacity)
+    {
+        return capacity == MAX_CAPACITY ? capacity - 1 : capacity / 4 * 3;
+    }
+}
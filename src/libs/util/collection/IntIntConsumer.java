@@ -0,0 +1,6 @@
+package libs.util.collection;
+
+@FunctionalInterface
+public interface IntIntConsumer {
+    void accept(int key, int value);
+}
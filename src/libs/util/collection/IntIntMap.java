@@ -0,0 +1,279 @@
+package libs.util.collection;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+public class IntIntMap {
+    private static final int FREE_KEY = 0;
+    private int [] m_keys;
+    private int [] m_values;
+    private int m_mask;
+    private int m_maxFill;
+    private int m_size;
+    private boolean m_hasFreeKey;
+    private int m_freeKeyValue;
+
+    private void allocate(int capacity)
+    {
+        m_keys = new int[capacity];
+        m_values = new int[capacity];
+        m_mask = capacity - 1;
+        m_maxFill = Hashing.maxFill(capacity);
+    }
+
+    private int indexOf(int key)
+    {
+        for (int i = Hashing.mix(key) & m_mask; ; i = (i + 1) & m_mask) {
+            int k = m_keys[i];
+
+            if (k == key)
+                return i;
+
+            if (k == FREE_KEY)
+                return -(i + 1);
+        }
+    }
+
+    private void insertAt(int slot, int key, int value)
+    {
+        m_keys[slot] = key;
+        m_values[slot] = value;
+
+        if (++m_size > m_maxFill)
+            rehash(m_keys.length << 1);
+    }
+
+    private void rehash(int capacity)
+    {
+        if (capacity > Hashing.MAX_CAPACITY)
+            throw new IllegalStateException("Map is too large");
+
+        int [] oldKeys = m_keys;
+        int [] oldValues = m_values;
+
+        allocate(capacity);
+
+        for (int i = 0; i < oldKeys.length; ++i) {
+            int key = oldKeys[i];
+
+            if (key == FREE_KEY)
+                continue;
+
+            int slot = Hashing.mix(key) & m_mask;
+
+            while (m_keys[slot] != FREE_KEY)
+                slot = (slot + 1) & m_mask;
+
+            m_keys[slot] = key;
+            m_values[slot] = oldValues[i];
+        }
+    }
+
+    // Backward-shift deletion keeps every probe chain contiguous without tombstones
+    private void shiftKeys(int slot)
+    {
+        for (int next = (slot + 1) & m_mask; m_keys[next] != FREE_KEY; next = (next + 1) & m_mask) {
+            int home = Hashing.mix(m_keys[next]) & m_mask;
+
+            if (((next - home) & m_mask) >= ((next - slot) & m_mask)) {
+                m_keys[slot] = m_keys[next];
+                m_values[slot] = m_values[next];
+                slot = next;
+            }
+        }
+
+        m_keys[slot] = FREE_KEY;
+    }
+
+    public IntIntMap()
+    {
+        this(16);
+    }
+
+    public IntIntMap(int expectedSize)
+    {
+        allocate(Hashing.capacityFor(expectedSize));
+    }
+
+    public static IntIntMap frequencies(int [] a)
+    {
+        IntIntMap map = new IntIntMap();
+
+        for (int val : a)
+            map.addTo(val, 1);
+
+        return map;
+    }
+
+    public int addTo(int key, int delta)
+    {
+        if (key == FREE_KEY) {
+            if (!m_hasFreeKey) {
+                m_hasFreeKey = true;
+                ++m_size;
+            }
+
+            return m_freeKeyValue += delta;
+        }
+
+        int index = indexOf(key);
+
+        if (index >= 0)
+            return m_values[index] += delta;
+
+        insertAt(-index - 1, key, delta);
+
+        return delta;
+    }
+
+    public void clear()
+    {
+        if (m_size == 0)
+            return;
+
+        Arrays.fill(m_keys, FREE_KEY);
+        m_hasFreeKey = false;
+        m_freeKeyValue = 0;
+        m_size = 0;
+    }
+
+    public boolean containsKey(int key)
+    {
+        return key == FREE_KEY ? m_hasFreeKey : indexOf(key) >= 0;
+    }
+
+    public void forEach(IntIntConsumer action)
+    {
+        if (m_hasFreeKey)
+            action.accept(FREE_KEY, m_freeKeyValue);
+
+        for (int i = 0; i < m_keys.length; ++i)
+            if (m_keys[i] != FREE_KEY)
+                action.accept(m_keys[i], m_values[i]);
+    }
+
+    public int get(int key)
+    {
+        if (key == FREE_KEY) {
+            if (!m_hasFreeKey)
+                throw new NoSuchElementException("Key not found:" + key);
+
+            return m_freeKeyValue;
+        }
+
+        int index = indexOf(key);
+
+        if (index < 0)
+            throw new NoSuchElementException("Key not found:" + key);
+
+        return m_values[index];
+    }
+
+    public int getOrDefault(int key, int defaultValue)
+    {
+        if (key == FREE_KEY)
+            return m_hasFreeKey ? m_freeKeyValue : defaultValue;
+
+        int index = indexOf(key);
+
+        return index < 0 ? defaultValue : m_values[index];
+    }
+
+    public boolean isEmpty()
+    {
+        return m_size == 0;
+    }
+
+    public int [] keys()
+    {
+        int [] result = new int[m_size];
+        int idx = 0;
+
+        if (m_hasFreeKey)
+            result[idx++] = FREE_KEY;
+
+        for (int key : m_keys)
+            if (key != FREE_KEY)
+                result[idx++] = key;
+
+        return result;
+    }
+
+    public void put(int key, int value)
+    {
+        if (key == FREE_KEY) {
+            if (!m_hasFreeKey) {
+                m_hasFreeKey = true;
+                ++m_size;
+            }
+
+            m_freeKeyValue = value;
+            return;
+        }
+
+        int index = indexOf(key);
+
+        if (index >= 0)
+            m_values[index] = value;
+        else
+            insertAt(-index - 1, key, value);
+    }
+
+    public boolean remove(int key)
+    {
+        if (key == FREE_KEY) {
+            if (!m_hasFreeKey)
+                return false;
+
+            m_hasFreeKey = false;
+            m_freeKeyValue = 0;
+            --m_size;
+
+            return true;
+        }
+
+        int index = indexOf(key);
+
+        if (index < 0)
+            return false;
+
+        shiftKeys(index);
+        --m_size;
+
+        return true;
+    }
+
+    public int size()
+    {
+        return m_size;
+    }
+
+    public int [] values()
+    {
+        int [] result = new int[m_size];
+        int idx = 0;
+
+        if (m_hasFreeKey)
+            result[idx++] = m_freeKeyValue;
+
+        for (int i = 0; i < m_keys.length; ++i)
+            if (m_keys[i] != FREE_KEY)
+                result[idx++] = m_values[i];
+
+        return result;
+    }
+
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder("{");
+
+        forEach((key, value) -> {
+            if (sb.length() != 1)
+                sb.append(", ");
+
+            sb.append(key).append('=').append(value);
+        });
+
+        return sb.append('}').toString();
+    }
+}
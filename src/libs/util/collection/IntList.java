@@ -0,0 +1,250 @@
+package libs.util.collection;
+
+import libs.util.array.ArrayUtil;
+import libs.util.array.Histogram;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+public class IntList {
+    private static final int DEFAULT_CAPACITY = 10;
+    private int [] m_items;
+    private int m_size;
+
+    private IntList(int [] items, int size)
+    {
+        m_items = items;
+        m_size = size;
+    }
+
+    private void grow(int minCapacity)
+    {
+        int newCapacity = Math.max(minCapacity, m_items.length + (m_items.length >> 1) + 1);
+
+        m_items = Arrays.copyOf(m_items, newCapacity);
+    }
+
+    private void checkNotEmpty()
+    {
+        if (m_size == 0)
+            throw new IllegalStateException("List is empty");
+    }
+
+    public IntList()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntList(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Capacity can not be negative:" + initialCapacity);
+
+        m_items = new int[initialCapacity];
+    }
+
+    public static IntList of(int... values)
+    {
+        return new IntList(values.clone(), values.length);
+    }
+
+    public static IntList wrap(int [] a)
+    {
+        return new IntList(a, a.length);
+    }
+
+    public void add(int value)
+    {
+        if (m_size == m_items.length)
+            grow(m_size + 1);
+
+        m_items[m_size++] = value;
+    }
+
+    public void add(int index, int value)
+    {
+        Objects.checkIndex(index, m_size + 1);
+
+        if (m_size == m_items.length)
+            grow(m_size + 1);
+
+        System.arraycopy(m_items, index, m_items, index + 1, m_size - index);
+        m_items[index] = value;
+        ++m_size;
+    }
+
+    public void addAll(int [] a)
+    {
+        addAll(a, 0, a.length);
+    }
+
+    public void addAll(int [] a, int fromIndex, int toIndex)
+    {
+        Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+
+        int count = toIndex - fromIndex;
+
+        ensureCapacity(m_size + count);
+        System.arraycopy(a, fromIndex, m_items, m_size, count);
+        m_size += count;
+    }
+
+    public void addAll(IntList other)
+    {
+        addAll(other.m_items, 0, other.m_size);
+    }
+
+    public void addTo(Histogram histogram)
+    {
+        histogram.addAll(m_items, 0, m_size);
+    }
+
+    public int capacity()
+    {
+        return m_items.length;
+    }
+
+    public void clear()
+    {
+        m_size = 0;
+    }
+
+    public boolean contains(int value)
+    {
+        return indexOf(value) != -1;
+    }
+
+    public int [] elements()
+    {
+        return m_items;
+    }
+
+    public void ensureCapacity(int minCapacity)
+    {
+        if (minCapacity > m_items.length)
+            grow(minCapacity);
+    }
+
+    public void forEach(IntConsumer action)
+    {
+        for (int i = 0; i < m_size; ++i)
+            action.accept(m_items[i]);
+    }
+
+    public int get(int index)
+    {
+        return m_items[Objects.checkIndex(index, m_size)];
+    }
+
+    public int indexOf(int value)
+    {
+        for (int i = 0; i < m_size; ++i)
+            if (m_items[i] == value)
+                return i;
+
+        return -1;
+    }
+
+    public boolean isEmpty()
+    {
+        return m_size == 0;
+    }
+
+    public int max()
+    {
+        checkNotEmpty();
+
+        return ArrayUtil.max(m_items, 0, m_size);
+    }
+
+    public int min()
+    {
+        checkNotEmpty();
+
+        return ArrayUtil.min(m_items, 0, m_size);
+    }
+
+    public int partition(int threshold)
+    {
+        return ArrayUtil.partition(m_items, 0, m_size, threshold);
+    }
+
+    public int removeAt(int index)
+    {
+        int oldValue = m_items[Objects.checkIndex(index, m_size)];
+
+        System.arraycopy(m_items, index + 1, m_items, index, m_size - index - 1);
+        --m_size;
+
+        return oldValue;
+    }
+
+    public int removeLast()
+    {
+        if (m_size == 0)
+            throw new IndexOutOfBoundsException("List is empty");
+
+        return m_items[--m_size];
+    }
+
+    public int set(int index, int value)
+    {
+        int oldValue = m_items[Objects.checkIndex(index, m_size)];
+
+        m_items[index] = value;
+
+        return oldValue;
+    }
+
+    public int size()
+    {
+        return m_size;
+    }
+
+    public void sort()
+    {
+        sort(false);
+    }
+
+    public void sort(boolean descending)
+    {
+        ArrayUtil.sort(m_items, 0, m_size, descending);
+    }
+
+    public IntStream stream()
+    {
+        return Arrays.stream(m_items, 0, m_size);
+    }
+
+    public long sum()
+    {
+        return ArrayUtil.sum(m_items, 0, m_size);
+    }
+
+    public int [] toArray()
+    {
+        return Arrays.copyOf(m_items, m_size);
+    }
+
+    public void trimToSize()
+    {
+        if (m_size < m_items.length)
+            m_items = Arrays.copyOf(m_items, m_size);
+    }
+
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder("[");
+
+        for (int i = 0; i < m_size; ++i) {
+            if (i != 0)
+                sb.append(", ");
+
+            sb.append(m_items[i]);
+        }
+
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,211 @@
+package libs.util.collection;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+public class IntSet {
+    private static final int FREE_KEY = 0;
+    private int [] m_keys;
+    private int m_mask;
+    private int m_maxFill;
+    private int m_size;
+    private boolean m_hasFreeKey;
+
+    private void allocate(int capacity)
+    {
+        m_keys = new int[capacity];
+        m_mask = capacity - 1;
+        m_maxFill = Hashing.maxFill(capacity);
+    }
+
+    private int indexOf(int key)
+    {
+        for (int i = Hashing.mix(key) & m_mask; ; i = (i + 1) & m_mask) {
+            int k = m_keys[i];
+
+            if (k == key)
+                return i;
+
+            if (k == FREE_KEY)
+                return -(i + 1);
+        }
+    }
+
+    private void rehash(int capacity)
+    {
+        if (capacity > Hashing.MAX_CAPACITY)
+            throw new IllegalStateException("Set is too large");
+
+        int [] oldKeys = m_keys;
+
+        allocate(capacity);
+
+        for (int key : oldKeys) {
+            if (key == FREE_KEY)
+                continue;
+
+            int slot = Hashing.mix(key) & m_mask;
+
+            while (m_keys[slot] != FREE_KEY)
+                slot = (slot + 1) & m_mask;
+
+            m_keys[slot] = key;
+        }
+    }
+
+    private void shiftKeys(int slot)
+    {
+        for (int next = (slot + 1) & m_mask; m_keys[next] != FREE_KEY; next = (next + 1) & m_mask) {
+            int home = Hashing.mix(m_keys[next]) & m_mask;
+
+            if (((next - home) & m_mask) >= ((next - slot) & m_mask)) {
+                m_keys[slot] = m_keys[next];
+                slot = next;
+            }
+        }
+
+        m_keys[slot] = FREE_KEY;
+    }
+
+    public IntSet()
+    {
+        this(16);
+    }
+
+    public IntSet(int expectedSize)
+    {
+        allocate(Hashing.capacityFor(expectedSize));
+    }
+
+    public static IntSet of(int... values)
+    {
+        IntSet set = new IntSet(values.length);
+
+        set.addAll(values);
+
+        return set;
+    }
+
+    public boolean add(int key)
+    {
+        if (key == FREE_KEY) {
+            if (m_hasFreeKey)
+                return false;
+
+            m_hasFreeKey = true;
+            ++m_size;
+
+            return true;
+        }
+
+        int index = indexOf(key);
+
+        if (index >= 0)
+            return false;
+
+        m_keys[-index - 1] = key;
+
+        if (++m_size > m_maxFill)
+            rehash(m_keys.length << 1);
+
+        return true;
+    }
+
+    public void addAll(int [] a)
+    {
+        for (int val : a)
+            add(val);
+    }
+
+    public void clear()
+    {
+        if (m_size == 0)
+            return;
+
+        Arrays.fill(m_keys, FREE_KEY);
+        m_hasFreeKey = false;
+        m_size = 0;
+    }
+
+    public boolean contains(int key)
+    {
+        return key == FREE_KEY ? m_hasFreeKey : indexOf(key) >= 0;
+    }
+
+    public void forEach(IntConsumer action)
+    {
+        if (m_hasFreeKey)
+            action.accept(FREE_KEY);
+
+        for (int key : m_keys)
+            if (key != FREE_KEY)
+                action.accept(key);
+    }
+
+    public boolean isEmpty()
+    {
+        return m_size == 0;
+    }
+
+    public boolean remove(int key)
+    {
+        if (key == FREE_KEY) {
+            if (!m_hasFreeKey)
+                return false;
+
+            m_hasFreeKey = false;
+            --m_size;
+
+            return true;
+        }
+
+        int index = indexOf(key);
+
+        if (index < 0)
+            return false;
+
+        shiftKeys(index);
+        --m_size;
+
+        return true;
+    }
+
+    public int size()
+    {
+        return m_size;
+    }
+
+    public int [] toArray()
+    {
+        int [] result = new int[m_size];
+        int idx = 0;
+
+        if (m_hasFreeKey)
+            result[idx++] = FREE_KEY;
+
+        for (int key : m_keys)
+            if (key != FREE_KEY)
+                result[idx++] = key;
+
+        return result;
+    }
+
+    public IntList toList()
+    {
+        return IntList.wrap(toArray());
+    }
+
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder("[");
+
+        forEach(key -> {
+            if (sb.length() != 1)
+                sb.append(", ");
+
+            sb.append(key);
+        });
+
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,5 @@
+package libs.util.string;
+
+public enum Alignment {
+    LEFT, RIGHT
+}
@@ -0,0 +1,160 @@
+package libs.util.string;
+
+import java.util.stream.IntStream;
+
+public class Alphabet {
+    private static final int MAX_LETTER_COUNT = Long.SIZE;
+    public static final Alphabet EN = create(StringUtil.LETTERS_EN, StringUtil.CAPITAL_LETTERS_EN);
+    public static final Alphabet TR = create(StringUtil.LETTERS_TR, StringUtil.CAPITAL_LETTERS_TR);
+
+    private final String m_letters;
+    private final byte [] m_indexes;
+    private final long m_fullMask;
+
+    // Each letter owns one bit; the table stores index + 1 so that zero means "not a letter of this alphabet"
+    private Alphabet(String letters, String capitalLetters)
+    {
+        int maxChar = 0;
+
+        for (int i = 0; i < letters.length(); ++i)
+            maxChar = Math.max(maxChar, Math.max(letters.charAt(i), capitalLetters.charAt(i)));
+
+        m_letters = letters;
+        m_indexes = new byte[maxChar + 1];
+        m_fullMask = letters.length() == MAX_LETTER_COUNT ? -1L : (1L << letters.length()) - 1;
+
+        for (int i = 0; i < letters.length(); ++i)
+            if (m_indexes[letters.charAt(i)] != 0)
+                throw new IllegalArgumentException("Duplicate letter:" + letters.charAt(i));
+            else
+                m_indexes[letters.charAt(i)] = (byte)(i + 1);
+
+        for (int i = 0; i < capitalLetters.length(); ++i)
+            if (m_indexes[capitalLetters.charAt(i)] == 0)
+                m_indexes[capitalLetters.charAt(i)] = (byte)(i + 1);
+    }
+
+    private static void checkLetters(String letters)
+    {
+        if (letters.isEmpty() || letters.length() > MAX_LETTER_COUNT)
+            throw new IllegalArgumentException("Letter count must be in [1, " + MAX_LETTER_COUNT + "]:" + letters.length());
+    }
+
+    public static Alphabet create(String letters)
+    {
+        checkLetters(letters);
+
+        char [] capitalLetters = new char[letters.length()];
+
+        for (int i = 0; i < capitalLetters.length; ++i)
+            capitalLetters[i] = Character.toUpperCase(letters.charAt(i));
+
+        return new Alphabet(letters, new String(capitalLetters));
+    }
+
+    public static Alphabet create(String letters, String capitalLetters)
+    {
+        checkLetters(letters);
+
+        if (letters.length() != capitalLetters.length())
+            throw new IllegalArgumentException("Letters and capital letters must have the same length");
+
+        return new Alphabet(letters, capitalLetters);
+    }
+
+    public int countLetters(CharSequence s, int [] counts)
+    {
+        if (counts.length < m_letters.length())
+            throw new IllegalArgumentException("Counts array is too small:" + counts.length);
+
+        int total = 0;
+
+        for (int i = 0; i < s.length(); ++i) {
+            int index = indexOf(s.charAt(i));
+
+            if (index != -1) {
+                ++counts[index];
+                ++total;
+            }
+        }
+
+        return total;
+    }
+
+    public int [] countLetters(CharSequence s)
+    {
+        int [] counts = new int[m_letters.length()];
+
+        countLetters(s, counts);
+
+        return counts;
+    }
+
+    public char getLetter(int index)
+    {
+        return m_letters.charAt(index);
+    }
+
+    public String getLetters()
+    {
+        return m_letters;
+    }
+
+    public int indexOf(char c)
+    {
+        return c < m_indexes.length ? m_indexes[c] - 1 : -1;
+    }
+
+    public boolean isPangram(CharSequence s)
+    {
+        long mask = 0;
+
+        for (int i = 0; i < s.length(); ++i) {
+            int index = indexOf(s.charAt(i));
+
+            if (index != -1 && (mask |= 1L << index) == m_fullMask)
+                return true;
+        }
+
+        return false;
+    }
+
+    public boolean [] isPangram(CharSequence [] s)
+    {
+        boolean [] result = new boolean[s.length];
+
+        IntStream.range(0, s.length).parallel().forEach(i -> result[i] = isPangram(s[i]));
+
+        return result;
+    }
+
+    public long letterMask(CharSequence s)
+    {
+        long mask = 0;
+
+        for (int i = 0; i < s.length() && mask != m_fullMask; ++i) {
+            int index = indexOf(s.charAt(i));
+
+            if (index != -1)
+                mask |= 1L << index;
+        }
+
+        return mask;
+    }
+
+    public String missingLetters(CharSequence s)
+    {
+        long missing = ~letterMask(s) & m_fullMask;
+        StringBuilder sb = new StringBuilder(Long.bitCount(missing));
+
+        for (; missing != 0; missing &= missing - 1)
+            sb.append(m_letters.charAt(Long.numberOfTrailingZeros(missing)));
+
+        return sb.toString();
+    }
+
+    public int size()
+    {
+        return m_letters.length();
+    }
+}
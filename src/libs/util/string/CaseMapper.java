@@ -0,0 +1,191 @@
+package libs.util.string;
+
+public class CaseMapper {
+    private static final int TABLE_SIZE = 0x250;
+    public static final CaseMapper EN = new CaseMapper(false);
+    public static final CaseMapper TR = new CaseMapper(true);
+
+    private final char [] m_upper = new char[TABLE_SIZE];
+    private final char [] m_lower = new char[TABLE_SIZE];
+    private final char [] m_swap = new char[TABLE_SIZE];
+
+    // Tables cover Latin-1 and Latin Extended-A/B, which hold every EN and TR letter; other chars fall back to Character
+    private CaseMapper(boolean turkish)
+    {
+        for (char c = 0; c < TABLE_SIZE; ++c) {
+            m_upper[c] = Character.toUpperCase(c);
+            m_lower[c] = Character.toLowerCase(c);
+        }
+
+        if (turkish) {
+            m_upper['i'] = 'İ';
+            m_lower['İ'] = 'i';
+            m_upper['ı'] = 'I';
+            m_lower['I'] = 'ı';
+        }
+
+        for (char c = 0; c < TABLE_SIZE; ++c)
+            m_swap[c] = Character.isLowerCase(c) ? m_upper[c] : m_lower[c];
+    }
+
+    private static void checkBuffer(int length, char [] dest, int destOffset)
+    {
+        if (destOffset < 0 || dest.length - destOffset < length)
+            throw new IllegalArgumentException("Destination buffer is too small:" + dest.length);
+    }
+
+    private static char [] ensureCapacity(char [] buffer, int length)
+    {
+        return buffer.length < length ? new char[Math.max(length, buffer.length * 2)] : buffer;
+    }
+
+    public char toLowerCase(char c)
+    {
+        return c < TABLE_SIZE ? m_lower[c] : Character.toLowerCase(c);
+    }
+
+    public char toUpperCase(char c)
+    {
+        return c < TABLE_SIZE ? m_upper[c] : Character.toUpperCase(c);
+    }
+
+    public char changeCase(char c)
+    {
+        return c < TABLE_SIZE ? m_swap[c] : Character.isLowerCase(c) ? Character.toUpperCase(c) : Character.toLowerCase(c);
+    }
+
+    public void capitalize(char [] c, int fromIndex, int toIndex)
+    {
+        if (fromIndex == toIndex)
+            return;
+
+        c[fromIndex] = toUpperCase(c[fromIndex]);
+        toLowerCase(c, fromIndex + 1, toIndex);
+    }
+
+    public int capitalize(CharSequence s, char [] dest, int destOffset)
+    {
+        int n = toLowerCase(s, dest, destOffset);
+
+        if (n != 0)
+            dest[destOffset] = toUpperCase(s.charAt(0));
+
+        return n;
+    }
+
+    public String capitalize(String s)
+    {
+        char [] c = s.toCharArray();
+
+        capitalize(c, 0, c.length);
+
+        return new String(c);
+    }
+
+    public String [] capitalize(String [] s)
+    {
+        String [] result = new String[s.length];
+        char [] buffer = new char[0];
+
+        for (int i = 0; i < s.length; ++i) {
+            buffer = ensureCapacity(buffer, s[i].length());
+            result[i] = new String(buffer, 0, capitalize(s[i], buffer, 0));
+        }
+
+        return result;
+    }
+
+    public void changeCase(char [] c, int fromIndex, int toIndex)
+    {
+        for (int i = fromIndex; i < toIndex; ++i)
+            c[i] = changeCase(c[i]);
+    }
+
+    public int changeCase(CharSequence s, char [] dest, int destOffset)
+    {
+        int n = s.length();
+
+        checkBuffer(n, dest, destOffset);
+
+        for (int i = 0; i < n; ++i)
+            dest[destOffset + i] = changeCase(s.charAt(i));
+
+        return n;
+    }
+
+    public String changeCase(String s)
+    {
+        char [] c = s.toCharArray();
+
+        changeCase(c, 0, c.length);
+
+        return new String(c);
+    }
+
+    public String [] changeCase(String [] s)
+    {
+        String [] result = new String[s.length];
+        char [] buffer = new char[0];
+
+        for (int i = 0; i < s.length; ++i) {
+            buffer = ensureCapacity(buffer, s[i].length());
+            result[i] = new String(buffer, 0, changeCase(s[i], buffer, 0));
+        }
+
+        return result;
+    }
+
+    public void toLowerCase(char [] c, int fromIndex, int toIndex)
+    {
+        for (int i = fromIndex; i < toIndex; ++i)
+            c[i] = toLowerCase(c[i]);
+    }
+
+    public int toLowerCase(CharSequence s, char [] dest, int destOffset)
+    {
+        int n = s.length();
+
+        checkBuffer(n, dest, destOffset);
+
+        for (int i = 0; i < n; ++i)
+            dest[destOffset + i] = toLowerCase(s.charAt(i));
+
+        return n;
+    }
+
+    public String toLowerCase(String s)
+    {
+        char [] c = s.toCharArray();
+
+        toLowerCase(c, 0, c.length);
+
+        return new String(c);
+    }
+
+    public void toUpperCase(char [] c, int fromIndex, int toIndex)
+    {
+        for (int i = fromIndex; i < toIndex; ++i)
+            c[i] = toUpperCase(c[i]);
+    }
+
+    public int toUpperCase(CharSequence s, char [] dest, int destOffset)
+    {
+        int n = s.length();
+
+        checkBuffer(n, dest, destOffset);
+
+        for (int i = 0; i < n; ++i)
+            dest[destOffset + i] = toUpperCase(s.charAt(i));
+
+        return n;
+    }
+
+    public String toUpperCase(String s)
+    {
+        char [] c = s.toCharArray();
+
+        toUpperCase(c, 0, c.length);
+
+        return new String(c);
+    }
+}
@@ -0,0 +1,253 @@
+package libs.util.string;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class ChannelTokenizer implements Closeable {
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    private final ReadableByteChannel m_channel;
+    private final ByteBuffer m_in;
+    private final CharsetDecoder m_decoder;
+    private final Splitter m_splitter;
+    private CharBuffer m_chars;
+    private CharBuffer m_view;
+    private boolean m_endOfInput;
+    private boolean m_flushing;
+    private boolean m_inputDone;
+    private boolean m_finished;
+    private int m_scanPos;
+    private int m_tokenStart;
+    private boolean m_afterDelimiter;
+    private boolean m_found;
+    private int m_pendingEmptyCount;
+    private int m_emptyToEmitCount;
+    private boolean m_hasHeldToken;
+    private int m_heldStart;
+    private int m_heldEnd;
+    private int m_start;
+    private int m_end;
+
+    private ChannelTokenizer(ReadableByteChannel channel, ByteBuffer in, Splitter splitter, int bufferSize)
+    {
+        m_channel = channel;
+        m_in = in;
+        m_endOfInput = channel == null;
+        m_decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        m_splitter = splitter;
+        m_chars = CharBuffer.allocate(bufferSize);
+        m_view = CharBuffer.wrap(m_chars.array());
+    }
+
+    public static ChannelTokenizer open(ReadableByteChannel channel, Splitter splitter)
+    {
+        return new ChannelTokenizer(channel, ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE), splitter, DEFAULT_BUFFER_SIZE);
+    }
+
+    public static ChannelTokenizer open(Path path, Splitter splitter) throws IOException
+    {
+        FileChannel channel = FileChannel.open(path);
+
+        if (channel.size() > Integer.MAX_VALUE)
+            return open(channel, splitter);
+
+        try (channel) {
+            return new ChannelTokenizer(null, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), splitter, DEFAULT_BUFFER_SIZE);
+        }
+    }
+
+    private void compact()
+    {
+        char [] c = m_chars.array();
+        int limit = m_chars.position();
+
+        if (m_tokenStart > 0) {
+            System.arraycopy(c, m_tokenStart, c, 0, limit - m_tokenStart);
+            m_chars.position(limit - m_tokenStart);
+            m_scanPos -= m_tokenStart;
+            m_tokenStart = 0;
+        }
+
+        // The decoder makes no progress with one free char when the next code point needs a surrogate pair
+        if (m_chars.remaining() < 2) {
+            CharBuffer chars = CharBuffer.allocate(c.length * 2);
+
+            chars.put(c, 0, m_chars.position());
+            m_chars = chars;
+            m_view = CharBuffer.wrap(chars.array());
+        }
+    }
+
+    private void fill() throws IOException
+    {
+        compact();
+
+        if (!m_flushing) {
+            if (!m_endOfInput && m_channel.read(m_in) == -1)
+                m_endOfInput = true;
+
+            if (m_channel != null)
+                m_in.flip();
+
+            m_decoder.decode(m_in, m_chars, m_endOfInput);
+
+            boolean exhausted = !m_in.hasRemaining();
+
+            if (m_channel != null)
+                m_in.compact();
+
+            m_flushing = m_endOfInput && exhausted;
+        }
+
+        if (m_flushing && m_decoder.flush(m_chars).isUnderflow())
+            m_inputDone = true;
+    }
+
+    // Empty tokens are held back until a non-empty one follows, which drops trailing empty tokens like String.split
+    private boolean offer(int start, int end)
+    {
+        if (start == end) {
+            ++m_pendingEmptyCount;
+            return false;
+        }
+
+        m_emptyToEmitCount = m_pendingEmptyCount;
+        m_pendingEmptyCount = 0;
+        m_hasHeldToken = true;
+        m_heldStart = start;
+        m_heldEnd = end;
+
+        return true;
+    }
+
+    private boolean takeQueued()
+    {
+        if (m_emptyToEmitCount > 0) {
+            --m_emptyToEmitCount;
+            m_start = m_end = 0;
+
+            return true;
+        }
+
+        if (m_hasHeldToken) {
+            m_hasHeldToken = false;
+            m_start = m_heldStart;
+            m_end = m_heldEnd;
+
+            return true;
+        }
+
+        return false;
+    }
+
+    private boolean nextToken() throws IOException
+    {
+        if (takeQueued())
+            return true;
+
+        boolean removeEmptyEntries = m_splitter.isRemoveEmptyEntries();
+
+        while (true) {
+            char [] c = m_chars.array();
+            int limit = m_chars.position();
+
+            while (m_scanPos < limit) {
+                int pos = m_scanPos++;
+
+                if (!m_splitter.isDelimiter(c[pos])) {
+                    m_afterDelimiter = false;
+                    continue;
+                }
+
+                int start = m_tokenStart;
+                boolean skip = removeEmptyEntries && m_afterDelimiter;
+
+                m_found = true;
+                m_afterDelimiter = true;
+                m_tokenStart = pos + 1;
+
+                if (!skip && offer(start, pos))
+                    return takeQueued();
+            }
+
+            if (m_finished)
+                return false;
+
+            if (m_inputDone) {
+                m_finished = true;
+
+                if (!m_found) {
+                    m_start = 0;
+                    m_end = limit;
+
+                    return true;
+                }
+
+                return offer(m_tokenStart, limit) && takeQueued();
+            }
+
+            fill();
+        }
+    }
+
+    // The source handed to the handler is a view over the decode buffer and is only valid during the callback
+    public void forEach(TokenHandler handler)
+    {
+        try {
+            while (nextToken())
+                handler.onToken(m_view, m_start, m_end);
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public Stream<CharSequence> tokens()
+    {
+        Spliterator<CharSequence> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super CharSequence> action)
+            {
+                try {
+                    if (!nextToken())
+                        return false;
+                }
+                catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+
+                action.accept(new String(m_chars.array(), m_start, m_end - m_start));
+
+                return true;
+            }
+        };
+
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    public void close()
+    {
+        try {
+            if (m_channel != null)
+                m_channel.close();
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package libs.util.string;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public class ColumnLayout {
+    private int [] m_widths = new int[8];
+    private Alignment [] m_alignments = new Alignment[8];
+    private char [] m_padChars = new char[8];
+    private int m_count;
+    private int m_rowWidth;
+
+    private ColumnLayout()
+    {
+    }
+
+    public static ColumnLayout create()
+    {
+        return new ColumnLayout();
+    }
+
+    public ColumnLayout add(int width, Alignment alignment)
+    {
+        return add(width, alignment, ' ');
+    }
+
+    public ColumnLayout add(int width, Alignment alignment, char padChar)
+    {
+        if (width < 1)
+            throw new IllegalArgumentException("Column width must be positive:" + width);
+
+        if (m_count == m_widths.length) {
+            m_widths = Arrays.copyOf(m_widths, m_count * 2);
+            m_alignments = Arrays.copyOf(m_alignments, m_count * 2);
+            m_padChars = Arrays.copyOf(m_padChars, m_count * 2);
+        }
+
+        m_widths[m_count] = width;
+        m_alignments[m_count] = alignment;
+        m_padChars[m_count++] = padChar;
+        m_rowWidth = Math.addExact(m_rowWidth, width);
+
+        return this;
+    }
+
+    public Alignment getAlignment(int column)
+    {
+        return m_alignments[Objects.checkIndex(column, m_count)];
+    }
+
+    public int getColumnCount()
+    {
+        return m_count;
+    }
+
+    public char getPadChar(int column)
+    {
+        return m_padChars[Objects.checkIndex(column, m_count)];
+    }
+
+    public int getRowWidth()
+    {
+        return m_rowWidth;
+    }
+
+    public int getWidth(int column)
+    {
+        return m_widths[Objects.checkIndex(column, m_count)];
+    }
+}
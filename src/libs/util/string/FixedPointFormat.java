@@ -0,0 +1,99 @@
+package libs.util.string;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+public class FixedPointFormat {
+    public static final int MAX_PRECISION = 20;
+    public static final int MAX_LENGTH = 2 + 309 + 1 + MAX_PRECISION + 1;
+    private final char m_decimalSeparator;
+    private final char [] m_digits = new char[32];
+
+    // The decimal separator comes from the locale, as it does for the %f conversion
+    public FixedPointFormat(Locale locale)
+    {
+        m_decimalSeparator = DecimalFormatSymbols.getInstance(locale).getDecimalSeparator();
+    }
+
+    public char getDecimalSeparator()
+    {
+        return m_decimalSeparator;
+    }
+
+    // Mirrors the %.nf conversion: the shortest decimal digits of the value are rounded half-up to the precision.
+    // The text goes to the start of dest, which must hold MAX_LENGTH chars, and its length is returned
+    public int format(double val, int precision, char [] dest)
+    {
+        if (precision < 0 || precision > MAX_PRECISION)
+            throw new IllegalArgumentException("Precision must be in [0, " + MAX_PRECISION + "]:" + precision);
+
+        if (Double.isNaN(val) || Double.isInfinite(val)) {
+            String s = Double.toString(val);
+
+            s.getChars(0, s.length(), dest, 0);
+            return s.length();
+        }
+
+        String s = Double.toString(Math.abs(val));
+        int exponentIndex = s.indexOf('E');
+        int mantissaEnd = exponentIndex == -1 ? s.length() : exponentIndex;
+        int digitCount = 0, pointPos = 0;
+
+        for (int i = 0; i < mantissaEnd; ++i) {
+            char c = s.charAt(i);
+
+            if (c == '.')
+                pointPos = digitCount;
+            else
+                m_digits[digitCount++] = c;
+        }
+
+        if (exponentIndex != -1)
+            pointPos += Integer.parseInt(s, exponentIndex + 1, s.length(), 10);
+
+        int intLength = Math.max(pointPos, 1);
+        int length = intLength + precision;
+        int shift = pointPos - intLength;
+        int base = 2;
+
+        // Digits go to dest[base + 1 ...], leaving room in front for a carry digit and the sign
+        for (int p = 0; p < length; ++p) {
+            int j = p + shift;
+
+            dest[base + p + 1] = j >= 0 && j < digitCount ? m_digits[j] : '0';
+        }
+
+        int roundIndex = length + shift;
+        int start = base + 1;
+
+        if (roundIndex >= 0 && roundIndex < digitCount && m_digits[roundIndex] >= '5') {
+            int p = base + length;
+
+            while (p > base && dest[p] == '9')
+                dest[p--] = '0';
+
+            if (p == base) {
+                dest[base] = '1';
+                start = base;
+            }
+            else
+                ++dest[p];
+        }
+
+        if (Double.compare(val, 0.0) < 0)
+            dest[--start] = '-';
+
+        int intEnd = base + 1 + intLength;
+
+        if (precision != 0) {
+            System.arraycopy(dest, intEnd, dest, intEnd + 1, precision);
+            dest[intEnd] = m_decimalSeparator;
+        }
+
+        int end = intEnd + (precision != 0 ? precision + 1 : 0);
+
+        System.arraycopy(dest, start, dest, 0, end - start);
+
+        return end - start;
+    }
+}
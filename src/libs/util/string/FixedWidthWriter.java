@@ -0,0 +1,215 @@
+package libs.util.string;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+
+public class FixedWidthWriter implements Flushable, Closeable {
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    private final WritableByteChannel m_channel;
+    private final int [] m_widths;
+    private final int [] m_offsets;
+    private final boolean [] m_rightAligned;
+    private final char [] m_padChars;
+    private final char [] m_row;
+    private final CharBuffer m_rowBuffer;
+    private final ByteBuffer m_out;
+    private final CharsetEncoder m_encoder;
+    private final FixedPointFormat m_format;
+    private final char [] m_cell = new char[FixedPointFormat.MAX_LENGTH];
+    private final char [] m_digits = new char[32];
+    private int m_column;
+    private long m_rowCount;
+
+    // The layout is copied, so later changes to it do not affect the writer; the locale only picks the decimal separator
+    public FixedWidthWriter(WritableByteChannel channel, ColumnLayout layout, String lineSeparator, Locale locale)
+    {
+        int count = layout.getColumnCount();
+
+        if (count == 0)
+            throw new IllegalArgumentException("Layout has no columns");
+
+        m_channel = channel;
+        m_widths = new int[count];
+        m_offsets = new int[count];
+        m_rightAligned = new boolean[count];
+        m_padChars = new char[count];
+
+        for (int i = 0, offset = 0; i < count; offset += m_widths[i++]) {
+            m_widths[i] = layout.getWidth(i);
+            m_offsets[i] = offset;
+            m_rightAligned[i] = layout.getAlignment(i) == Alignment.RIGHT;
+            m_padChars[i] = layout.getPadChar(i);
+        }
+
+        m_row = new char[layout.getRowWidth() + lineSeparator.length()];
+        lineSeparator.getChars(0, lineSeparator.length(), m_row, layout.getRowWidth());
+        m_rowBuffer = CharBuffer.wrap(m_row);
+        m_out = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+        m_encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        m_format = new FixedPointFormat(locale);
+    }
+
+    public FixedWidthWriter(WritableByteChannel channel, ColumnLayout layout, String lineSeparator)
+    {
+        this(channel, layout, lineSeparator, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    public FixedWidthWriter(WritableByteChannel channel, ColumnLayout layout)
+    {
+        this(channel, layout, "\n");
+    }
+
+    public FixedWidthWriter(OutputStream out, ColumnLayout layout)
+    {
+        this(Channels.newChannel(out), layout, "\n");
+    }
+
+    private int currentColumn()
+    {
+        if (m_column == m_widths.length)
+            throw new IllegalStateException("Row already has " + m_widths.length + " columns");
+
+        return m_column;
+    }
+
+    // Fills the padding of a cell and returns where its content of the given length starts
+    private int pad(int column, int length)
+    {
+        int width = m_widths[column];
+        int offset = m_offsets[column];
+
+        if (m_rightAligned[column]) {
+            Arrays.fill(m_row, offset, offset + width - length, m_padChars[column]);
+            return offset + width - length;
+        }
+
+        Arrays.fill(m_row, offset + length, offset + width, m_padChars[column]);
+
+        return offset;
+    }
+
+    private void putNumber(int column, char [] c, int start, int length)
+    {
+        if (length > m_widths[column])
+            throw new IllegalArgumentException("Value does not fit in column " + column + ":" + new String(c, start, length));
+
+        System.arraycopy(c, start, m_row, pad(column, length), length);
+        ++m_column;
+    }
+
+    private void flushBuffer()
+    {
+        try {
+            m_out.flip();
+
+            while (m_out.hasRemaining())
+                m_channel.write(m_out);
+
+            m_out.clear();
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // Text longer than the column is cut to the column width
+    public FixedWidthWriter put(CharSequence s)
+    {
+        int column = currentColumn();
+        int length = Math.min(s.length(), m_widths[column]);
+        int start = pad(column, length);
+
+        if (s instanceof String str)
+            str.getChars(0, length, m_row, start);
+        else
+            for (int i = 0; i < length; ++i)
+                m_row[start + i] = s.charAt(i);
+
+        ++m_column;
+
+        return this;
+    }
+
+    public FixedWidthWriter put(int val)
+    {
+        return put((long)val);
+    }
+
+    public FixedWidthWriter put(long val)
+    {
+        int column = currentColumn();
+        int i = m_digits.length;
+        long rest = val;
+
+        do {
+            m_digits[--i] = (char)('0' + Math.abs(rest % 10));
+            rest /= 10;
+        } while (rest != 0);
+
+        if (val < 0)
+            m_digits[--i] = '-';
+
+        putNumber(column, m_digits, i, m_digits.length - i);
+
+        return this;
+    }
+
+    public FixedWidthWriter put(double val, int precision)
+    {
+        int column = currentColumn();
+
+        putNumber(column, m_cell, 0, m_format.format(val, precision, m_cell));
+
+        return this;
+    }
+
+    public void endRow()
+    {
+        if (m_column != m_widths.length)
+            throw new IllegalStateException("Row has " + m_column + " of " + m_widths.length + " columns");
+
+        m_rowBuffer.clear();
+
+        while (m_encoder.encode(m_rowBuffer, m_out, false).isOverflow())
+            flushBuffer();
+
+        m_column = 0;
+        ++m_rowCount;
+    }
+
+    public long getRowCount()
+    {
+        return m_rowCount;
+    }
+
+    public void flush()
+    {
+        flushBuffer();
+    }
+
+    public void close()
+    {
+        flush();
+
+        try {
+            m_channel.close();
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
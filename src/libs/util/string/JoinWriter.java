@@ -0,0 +1,82 @@
+package libs.util.string;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+public class JoinWriter implements Flushable, Closeable {
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    private final Writer m_writer;
+    private final String m_delimiter;
+    private long m_count;
+
+    public JoinWriter(Writer writer, String delimiter)
+    {
+        m_writer = writer;
+        m_delimiter = delimiter;
+    }
+
+    public static JoinWriter open(WritableByteChannel channel, String delimiter)
+    {
+        return new JoinWriter(new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), DEFAULT_BUFFER_SIZE), delimiter);
+    }
+
+    public JoinWriter add(CharSequence s)
+    {
+        return add(s, 0, s.length());
+    }
+
+    public JoinWriter add(CharSequence s, int start, int end)
+    {
+        try {
+            if (m_count++ != 0)
+                m_writer.write(m_delimiter);
+
+            m_writer.append(s, start, end);
+
+            return this;
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public JoinWriter addAll(CharSequence... s)
+    {
+        for (CharSequence str : s)
+            add(str);
+
+        return this;
+    }
+
+    public long getCount()
+    {
+        return m_count;
+    }
+
+    public void flush()
+    {
+        try {
+            m_writer.flush();
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void close()
+    {
+        try {
+            m_writer.close();
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package libs.util.string;
+
+@FunctionalInterface
+public interface MatchHandler {
+    void onMatch(int patternIndex, int startIndex);
+}
@@ -0,0 +1,213 @@
+package libs.util.string;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class MultiPatternMatcher {
+    private static final int MAX_CHAR_COUNT = Character.MAX_VALUE + 1;
+    private final String [] m_patterns;
+    private final char [] m_charIds;
+    private final int m_alphabetSize;
+    private final int [] m_transitions;
+    private final int [] m_terminals;
+    private final int [] m_dictionaryLinks;
+    private final int [] m_nextDuplicates;
+
+    private MultiPatternMatcher(String [] patterns)
+    {
+        m_patterns = patterns;
+        m_charIds = new char[MAX_CHAR_COUNT];
+        m_nextDuplicates = new int[patterns.length];
+        Arrays.fill(m_nextDuplicates, -1);
+
+        int alphabetSize = 1, totalLength = 0;
+
+        for (String pattern : patterns) {
+            for (int i = 0; i < pattern.length(); ++i)
+                if (m_charIds[pattern.charAt(i)] == 0)
+                    m_charIds[pattern.charAt(i)] = (char)alphabetSize++;
+
+            totalLength += pattern.length();
+        }
+
+        m_alphabetSize = alphabetSize;
+
+        int maxStates = totalLength + 1;
+        int [] transitions = new int[maxStates * alphabetSize];
+        int [] terminals = new int[maxStates];
+        int stateCount = 1;
+
+        Arrays.fill(terminals, -1);
+
+        Map<String, Integer> firstIndexes = new HashMap<>();
+
+        for (int p = 0; p < patterns.length; ++p) {
+            String pattern = patterns[p];
+            Integer first = firstIndexes.putIfAbsent(pattern, p);
+
+            if (first != null) {
+                int last = first;
+
+                while (m_nextDuplicates[last] != -1)
+                    last = m_nextDuplicates[last];
+
+                m_nextDuplicates[last] = p;
+                continue;
+            }
+
+            int state = 0;
+
+            for (int i = 0; i < pattern.length(); ++i) {
+                int slot = state * alphabetSize + m_charIds[pattern.charAt(i)];
+
+                if (transitions[slot] == 0)
+                    transitions[slot] = stateCount++;
+
+                state = transitions[slot];
+            }
+
+            terminals[state] = p;
+        }
+
+        m_transitions = Arrays.copyOf(transitions, stateCount * alphabetSize);
+        m_terminals = Arrays.copyOf(terminals, stateCount);
+        m_dictionaryLinks = new int[stateCount];
+        buildAutomaton(stateCount);
+    }
+
+    // Breadth-first pass that turns the trie into a full transition table and links every state to the nearest
+    // state on its failure chain that ends a pattern
+    private void buildAutomaton(int stateCount)
+    {
+        int [] failures = new int[stateCount];
+        int [] queue = new int[stateCount];
+        int head = 0, tail = 0;
+
+        Arrays.fill(m_dictionaryLinks, -1);
+
+        for (int c = 1; c < m_alphabetSize; ++c) {
+            int child = m_transitions[c];
+
+            if (child != 0)
+                queue[tail++] = child;
+        }
+
+        while (head < tail) {
+            int state = queue[head++];
+            int failure = failures[state];
+
+            for (int c = 1; c < m_alphabetSize; ++c) {
+                int slot = state * m_alphabetSize + c;
+                int child = m_transitions[slot];
+                int fallback = m_transitions[failure * m_alphabetSize + c];
+
+                if (child == 0) {
+                    m_transitions[slot] = fallback;
+                    continue;
+                }
+
+                failures[child] = fallback;
+                m_dictionaryLinks[child] = m_terminals[fallback] != -1 ? fallback : m_dictionaryLinks[fallback];
+                queue[tail++] = child;
+            }
+        }
+    }
+
+    private int firstMatchState(int state)
+    {
+        return m_terminals[state] != -1 ? state : m_dictionaryLinks[state];
+    }
+
+    public static MultiPatternMatcher compile(String... patterns)
+    {
+        for (String pattern : patterns)
+            if (pattern.isEmpty())
+                throw new IllegalArgumentException("Patterns can not be empty");
+
+        return new MultiPatternMatcher(patterns.clone());
+    }
+
+    public boolean containsAny(CharSequence text)
+    {
+        int state = 0;
+
+        for (int i = 0; i < text.length(); ++i) {
+            state = m_transitions[state * m_alphabetSize + m_charIds[text.charAt(i)]];
+
+            if (firstMatchState(state) != -1)
+                return true;
+        }
+
+        return false;
+    }
+
+    public int [] countAll(CharSequence text)
+    {
+        return countAll(text, true);
+    }
+
+    public int [] countAll(CharSequence text, boolean overlapping)
+    {
+        int [] counts = new int[m_patterns.length];
+        int [] lastEnds = overlapping ? null : new int[m_patterns.length];
+        int state = 0;
+
+        for (int i = 0; i < text.length(); ++i) {
+            state = m_transitions[state * m_alphabetSize + m_charIds[text.charAt(i)]];
+
+            for (int s = firstMatchState(state); s != -1; s = m_dictionaryLinks[s]) {
+                int p = m_terminals[s];
+
+                if (overlapping)
+                    ++counts[p];
+                else if (i + 1 - m_patterns[p].length() >= lastEnds[p]) {
+                    ++counts[p];
+                    lastEnds[p] = i + 1;
+                }
+            }
+        }
+
+        for (int p = 0; p < counts.length; ++p)
+            for (int d = m_nextDuplicates[p]; d != -1; d = m_nextDuplicates[d])
+                counts[d] = counts[p];
+
+        return counts;
+    }
+
+    public long countTotal(CharSequence text)
+    {
+        long total = 0;
+
+        for (int count : countAll(text))
+            total += count;
+
+        return total;
+    }
+
+    public void findAll(CharSequence text, MatchHandler handler)
+    {
+        int state = 0;
+
+        for (int i = 0; i < text.length(); ++i) {
+            state = m_transitions[state * m_alphabetSize + m_charIds[text.charAt(i)]];
+
+            for (int s = firstMatchState(state); s != -1; s = m_dictionaryLinks[s]) {
+                int start = i + 1 - m_patterns[m_terminals[s]].length();
+
+                for (int p = m_terminals[s]; p != -1; p = m_nextDuplicates[p])
+                    handler.onMatch(p, start);
+            }
+        }
+    }
+
+    public String getPattern(int index)
+    {
+        return m_patterns[index];
+    }
+
+    public int getPatternCount()
+    {
+        return m_patterns.length;
+    }
+}
@@ -0,0 +1,296 @@
+package libs.util.string;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+public class RandomTextGenerator {
+    private static final int MAX_TABLE_SIZE = 1 << 16;
+    private static final int MAX_BYTES_PER_CHAR = 3;
+    private static final int SCRATCH_SIZE = 1 << 16;
+    private static final int TEXTS_CHUNK_SIZE = 1 << 10;
+    public static final RandomTextGenerator EN = create(StringUtil.ALL_LETTERS_EN);
+    public static final RandomTextGenerator TR = create(StringUtil.ALL_LETTERS_TR);
+
+    private final int m_tableSize;
+    private final byte [] m_encoded;
+    private final byte [] m_encodedLengths;
+    private final int m_maxBytesPerChar;
+    private final int m_drawBits;
+    private final int m_drawsPerWord;
+    private final long m_drawMask;
+
+    // Every table slot is one equally likely outcome, so a char that fills w slots is drawn with weight w
+    private RandomTextGenerator(char [] table)
+    {
+        int maxBytesPerChar = 1;
+
+        m_tableSize = table.length;
+        m_encoded = new byte[table.length * MAX_BYTES_PER_CHAR];
+        m_encodedLengths = new byte[table.length];
+
+        for (int i = 0; i < table.length; ++i) {
+            if (Character.isSurrogate(table[i]))
+                throw new IllegalArgumentException("Surrogate chars are not supported:" + (int)table[i]);
+
+            byte [] bytes = String.valueOf(table[i]).getBytes(StandardCharsets.UTF_8);
+
+            System.arraycopy(bytes, 0, m_encoded, i * MAX_BYTES_PER_CHAR, bytes.length);
+            m_encodedLengths[i] = (byte)bytes.length;
+            maxBytesPerChar = Math.max(maxBytesPerChar, bytes.length);
+        }
+
+        m_maxBytesPerChar = maxBytesPerChar;
+        m_drawBits = Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(table.length - 1));
+        m_drawsPerWord = Long.SIZE / m_drawBits;
+        m_drawMask = (1L << m_drawBits) - 1;
+    }
+
+    private static byte [] ensureCapacity(byte [] buffer, int length)
+    {
+        return buffer.length < length ? Arrays.copyOf(buffer, Math.max(length, buffer.length * 2)) : buffer;
+    }
+
+    // Several table indexes are cut from each 64-bit word; indexes past the table are rejected so that the
+    // distribution stays exact for any table size
+    private int encode(RandomGenerator random, byte [] dest, int offset, int count)
+    {
+        int pos = offset;
+        long bits = 0;
+        int available = 0;
+
+        while (count > 0) {
+            if (available == 0) {
+                bits = random.nextLong();
+                available = m_drawsPerWord;
+            }
+
+            int index = (int)(bits & m_drawMask);
+
+            bits >>>= m_drawBits;
+            --available;
+
+            if (index >= m_tableSize)
+                continue;
+
+            int base = index * MAX_BYTES_PER_CHAR;
+            int length = m_encodedLengths[index];
+
+            dest[pos++] = m_encoded[base];
+
+            if (length > 1) {
+                dest[pos++] = m_encoded[base + 1];
+
+                if (length > 2)
+                    dest[pos++] = m_encoded[base + 2];
+            }
+
+            --count;
+        }
+
+        return pos - offset;
+    }
+
+    private byte [] encodeTexts(RandomGenerator random, int count, int origin, int bound, byte [] separator, int [] length)
+    {
+        byte [] buffer = new byte[SCRATCH_SIZE];
+        int pos = 0;
+
+        for (int i = 0; i < count; ++i) {
+            int n = random.nextInt(origin, bound);
+
+            buffer = ensureCapacity(buffer, pos + n * m_maxBytesPerChar + separator.length);
+            pos += encode(random, buffer, pos, n);
+            System.arraycopy(separator, 0, buffer, pos, separator.length);
+            pos += separator.length;
+        }
+
+        length[0] = pos;
+
+        return buffer;
+    }
+
+    public static RandomTextGenerator create(String sourceText)
+    {
+        if (sourceText.isEmpty() || sourceText.length() > MAX_TABLE_SIZE)
+            throw new IllegalArgumentException("Source text length must be in [1, " + MAX_TABLE_SIZE + "]:" + sourceText.length());
+
+        return new RandomTextGenerator(sourceText.toCharArray());
+    }
+
+    public static RandomTextGenerator createWeighted(String letters, int [] weights)
+    {
+        if (letters.length() != weights.length)
+            throw new IllegalArgumentException("Letters and weights must have the same length");
+
+        long totalWeight = 0;
+
+        for (int weight : weights) {
+            if (weight < 0)
+                throw new IllegalArgumentException("Weight can not be negative:" + weight);
+
+            totalWeight += weight;
+        }
+
+        if (totalWeight == 0 || totalWeight > MAX_TABLE_SIZE)
+            throw new IllegalArgumentException("Total weight must be in [1, " + MAX_TABLE_SIZE + "]:" + totalWeight);
+
+        char [] table = new char[(int)totalWeight];
+
+        for (int i = 0, pos = 0; i < weights.length; pos += weights[i++])
+            Arrays.fill(table, pos, pos + weights[i], letters.charAt(i));
+
+        return new RandomTextGenerator(table);
+    }
+
+    public int getMaxBytesPerChar()
+    {
+        return m_maxBytesPerChar;
+    }
+
+    public int write(RandomGenerator random, byte [] dest, int offset, int count)
+    {
+        if (offset < 0 || (long)dest.length - offset < (long)count * m_maxBytesPerChar)
+            throw new IllegalArgumentException("Destination buffer is too small:" + dest.length);
+
+        return encode(random, dest, offset, count);
+    }
+
+    // A heap buffer with room for the worst case is encoded into directly; anything else goes through the
+    // scratch array, which is allocated here only when the caller did not pass one
+    private long write(RandomGenerator random, ByteBuffer dest, int count, byte [] scratch)
+    {
+        if (dest.hasArray() && dest.remaining() >= (long)count * m_maxBytesPerChar) {
+            int length = encode(random, dest.array(), dest.arrayOffset() + dest.position(), count);
+
+            dest.position(dest.position() + length);
+
+            return length;
+        }
+
+        if (scratch == null)
+            scratch = new byte[SCRATCH_SIZE];
+
+        int charsPerScratch = SCRATCH_SIZE / m_maxBytesPerChar;
+        long total = 0;
+
+        while (count > 0) {
+            int n = Math.min(count, charsPerScratch);
+            int length = encode(random, scratch, 0, n);
+
+            dest.put(scratch, 0, length);
+            total += length;
+            count -= n;
+        }
+
+        return total;
+    }
+
+    public long write(RandomGenerator random, ByteBuffer dest, int count)
+    {
+        return write(random, dest, count, null);
+    }
+
+    public long writeTexts(RandomGenerator random, ByteBuffer dest, int count, int origin, int bound, String separator)
+    {
+        byte [] separatorBytes = separator.getBytes(StandardCharsets.UTF_8);
+        byte [] scratch = dest.hasArray() ? null : new byte[SCRATCH_SIZE];
+        long total = 0;
+
+        for (int i = 0; i < count; ++i) {
+            total += write(random, dest, random.nextInt(origin, bound), scratch);
+            dest.put(separatorBytes);
+            total += separatorBytes.length;
+        }
+
+        return total;
+    }
+
+    public long writeTexts(RandomGenerator random, OutputStream out, int count, int origin, int bound, String separator)
+    {
+        byte [] separatorBytes = separator.getBytes(StandardCharsets.UTF_8);
+        byte [] scratch = new byte[SCRATCH_SIZE + separatorBytes.length];
+        int charsPerScratch = SCRATCH_SIZE / m_maxBytesPerChar;
+        int pos = 0;
+        long total = 0;
+
+        try {
+            for (int i = 0; i < count; ++i) {
+                for (int n = random.nextInt(origin, bound); n > 0; ) {
+                    int chunk = Math.min(n, (SCRATCH_SIZE - pos) / m_maxBytesPerChar);
+
+                    if (chunk == 0) {
+                        out.write(scratch, 0, pos);
+                        total += pos;
+                        pos = 0;
+                        chunk = Math.min(n, charsPerScratch);
+                    }
+
+                    pos += encode(random, scratch, pos, chunk);
+                    n -= chunk;
+                }
+
+                System.arraycopy(separatorBytes, 0, scratch, pos, separatorBytes.length);
+                pos += separatorBytes.length;
+
+                if (pos >= SCRATCH_SIZE) {
+                    out.write(scratch, 0, pos);
+                    total += pos;
+                    pos = 0;
+                }
+            }
+
+            out.write(scratch, 0, pos);
+
+            return total + pos;
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // Chunks of texts get their generators split off in order and are written in order, a bounded wave at a time,
+    // so the bytes do not depend on thread count and memory does not grow with the total output
+    public long writeTexts(RandomGenerator.SplittableGenerator random, OutputStream out, int count, int origin, int bound, String separator)
+    {
+        byte [] separatorBytes = separator.getBytes(StandardCharsets.UTF_8);
+        int chunkCount = (count + TEXTS_CHUNK_SIZE - 1) / TEXTS_CHUNK_SIZE;
+        int waveSize = 4 * ForkJoinPool.getCommonPoolParallelism();
+        RandomGenerator [] generators = new RandomGenerator[waveSize];
+        byte [][] chunks = new byte[waveSize][];
+        int [][] lengths = new int[waveSize][1];
+        long total = 0;
+
+        try {
+            for (int first = 0; first < chunkCount; first += waveSize) {
+                int waveFirst = first;
+                int n = Math.min(waveSize, chunkCount - first);
+
+                for (int i = 0; i < n; ++i)
+                    generators[i] = random.split();
+
+                IntStream.range(0, n).parallel().forEach(i -> {
+                    int start = (waveFirst + i) * TEXTS_CHUNK_SIZE;
+
+                    chunks[i] = encodeTexts(generators[i], Math.min(TEXTS_CHUNK_SIZE, count - start), origin, bound, separatorBytes, lengths[i]);
+                });
+
+                for (int i = 0; i < n; ++i) {
+                    out.write(chunks[i], 0, lengths[i][0]);
+                    total += lengths[i][0];
+                }
+            }
+
+            return total;
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package libs.util.string;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class Splitter {
+    private static final int CACHE_CAPACITY = 64;
+    private static final Map<String, Splitter> CACHE = new LinkedHashMap<>(CACHE_CAPACITY, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Splitter> eldest)
+        {
+            return size() > CACHE_CAPACITY;
+        }
+    };
+
+    private final long [] m_latin1Mask = new long[4];
+    private final char [] m_otherDelimiters;
+    private final boolean m_removeEmptyEntries;
+
+    private Splitter(String delimiters, boolean removeEmptyEntries)
+    {
+        char [] others = new char[delimiters.length()];
+        int otherCount = 0;
+
+        for (int i = 0; i < delimiters.length(); ++i) {
+            char c = delimiters.charAt(i);
+
+            if (c < 256)
+                m_latin1Mask[c >>> 6] |= 1L << c;
+            else
+                others[otherCount++] = c;
+        }
+
+        m_otherDelimiters = Arrays.copyOf(others, otherCount);
+        Arrays.sort(m_otherDelimiters);
+        m_removeEmptyEntries = removeEmptyEntries;
+    }
+
+    public static Splitter of(String delimiters)
+    {
+        return of(delimiters, true);
+    }
+
+    public static Splitter of(String delimiters, boolean removeEmptyEntries)
+    {
+        if (delimiters.isEmpty())
+            throw new IllegalArgumentException("Delimiters can not be empty");
+
+        return new Splitter(delimiters, removeEmptyEntries);
+    }
+
+    public static Splitter cached(String delimiters, boolean removeEmptyEntries)
+    {
+        String key = (removeEmptyEntries ? '+' : '-') + delimiters;
+
+        synchronized (CACHE) {
+            Splitter splitter = CACHE.get(key);
+
+            if (splitter == null) {
+                splitter = of(delimiters, removeEmptyEntries);
+                CACHE.put(key, splitter);
+            }
+
+            return splitter;
+        }
+    }
+
+    public boolean isDelimiter(char c)
+    {
+        if (c < 256)
+            return (m_latin1Mask[c >>> 6] & (1L << c)) != 0;
+
+        return m_otherDelimiters.length != 0 && Arrays.binarySearch(m_otherDelimiters, c) >= 0;
+    }
+
+    public boolean isRemoveEmptyEntries()
+    {
+        return m_removeEmptyEntries;
+    }
+
+    // Token bounds follow String.split: a leading empty token is kept, trailing empty tokens are dropped and an
+    // input without any delimiter comes back as the only token
+    public int [] splitIndexes(CharSequence s)
+    {
+        int n = s.length();
+        int [] bounds = new int[16];
+        int count = 0;
+        int start = 0;
+        boolean found = false;
+
+        for (int i = 0; i < n; ) {
+            if (!isDelimiter(s.charAt(i))) {
+                ++i;
+                continue;
+            }
+
+            found = true;
+
+            if (count + 2 > bounds.length)
+                bounds = Arrays.copyOf(bounds, bounds.length * 2);
+
+            bounds[count++] = start;
+            bounds[count++] = i++;
+
+            if (m_removeEmptyEntries)
+                while (i < n && isDelimiter(s.charAt(i)))
+                    ++i;
+
+            start = i;
+        }
+
+        if (!found)
+            return new int[] {0, n};
+
+        if (count + 2 > bounds.length)
+            bounds = Arrays.copyOf(bounds, count + 2);
+
+        bounds[count++] = start;
+        bounds[count++] = n;
+
+        while (count != 0 && bounds[count - 2] == bounds[count - 1])
+            count -= 2;
+
+        return Arrays.copyOf(bounds, count);
+    }
+
+    public String [] split(CharSequence s)
+    {
+        int [] bounds = splitIndexes(s);
+        String [] result = new String[bounds.length / 2];
+
+        for (int i = 0; i < result.length; ++i)
+            result[i] = s.subSequence(bounds[2 * i], bounds[2 * i + 1]).toString();
+
+        return result;
+    }
+
+    public CharSequence [] splitViews(CharSequence s)
+    {
+        int [] bounds = splitIndexes(s);
+        CharSequence [] result = new CharSequence[bounds.length / 2];
+
+        for (int i = 0; i < result.length; ++i)
+            result[i] = CharBuffer.wrap(s, bounds[2 * i], bounds[2 * i + 1]);
+
+        return result;
+    }
+
+    public void forEachToken(CharSequence s, TokenHandler handler)
+    {
+        int [] bounds = splitIndexes(s);
+
+        for (int i = 0; i < bounds.length; i += 2)
+            handler.onToken(s, bounds[i], bounds[i + 1]);
+    }
+}
@@ -1,46 +1,100 @@
 package libs.util.string;
 
+import libs.util.thread.ThreadUtil;
+
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collector;
 
 public class StringUtil {
     private StringUtil() {}
 
-    private static final String LETTERS_EN = "abcdefghijklmnopqrstuvwxyz";
-    private static final String LETTERS_TR = "abcçdefgğhıijklmnoöprsştuüvyz";
-    private static final String CAPITAL_LETTERS_EN = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
-    private static final String CAPITAL_LETTERS_TR = "ABCÇDEFGĞHIİJKLMNOÖPRSŞTUÜVYZ";
-    private static final String ALL_LETTERS_EN = LETTERS_EN + CAPITAL_LETTERS_EN;
-    private static final String ALL_LETTERS_TR = LETTERS_TR + CAPITAL_LETTERS_TR;
-
-    public static String capitalize(String s)
+    static final String LETTERS_EN = "abcdefghijklmnopqrstuvwxyz";
+    static final String LETTERS_TR = "abcçdefgğhıijklmnoöprsştuüvyz";
+    static final String CAPITAL_LETTERS_EN = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    static final String CAPITAL_LETTERS_TR = "ABCÇDEFGĞHIİJKLMNOÖPRSŞTUÜVYZ";
+    static final String ALL_LETTERS_EN = LETTERS_EN + CAPITAL_LETTERS_EN;
+    static final String ALL_LETTERS_TR = LETTERS_TR + CAPITAL_LETTERS_TR;
+    private static final int RANDOM_TEXT_CHUNK_SIZE = 1 << 16;
+    private static final int RANDOM_TEXTS_CHUNK_SIZE = 1 << 10;
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private static int copyChars(CharSequence s, char [] c, int pos)
     {
-        return s.isEmpty() ? s : Character.toUpperCase(s.charAt(0)) + s.substring(1).toLowerCase();
+        int n = s.length();
+
+        if (s instanceof String str)
+            str.getChars(0, n, c, pos);
+        else
+            for (int i = 0; i < n; ++i)
+                c[pos + i] = s.charAt(i);
+
+        return pos + n;
     }
 
-    public static String changeCase(String s)
+    private static void fillRandomText(RandomGenerator random, char [] c, int start, int end, String sourceText)
     {
-        StringBuilder sb = new StringBuilder(s);
+        for (int i = start; i < end; ++i)
+            c[i] = sourceText.charAt(random.nextInt(sourceText.length()));
+    }
 
-        for (int i = 0; i < s.length(); ++i) {
-            char c = s.charAt(i);
+    public static String capitalize(String s)
+    {
+        return CaseMapper.EN.capitalize(s);
+    }
 
-            sb.setCharAt(i, Character.isLowerCase(c) ? Character.toUpperCase(c) : Character.toLowerCase(c));
-        }
+    public static String capitalizeTR(String s)
+    {
+        return CaseMapper.TR.capitalize(s);
+    }
 
-        return sb.toString();
+    public static String changeCase(String s)
+    {
+        return CaseMapper.EN.changeCase(s);
     }
 
+    public static String changeCaseTR(String s)
+    {
+        return CaseMapper.TR.changeCase(s);
+    }
 
     public static int countString(String s1, String s2)
     {
+        return countString(s1, s2, true);
+    }
+
+    // String.indexOf is an intrinsic and needs no setup, so one-off counts use it for any pattern; compile a
+    // SubstringMatcher to count the same pattern in many texts
+    public static int countString(String s1, String s2, boolean overlapping)
+    {
+        // An empty s2 matches at every position in both modes; indexOf would keep finding it at the end of s1
+        if (s2.isEmpty())
+            return s1.length() + 1;
+
+        int step = overlapping ? 1 : s2.length();
         int count = 0;
 
-        for (int i = 0; (i = s1.indexOf(s2, i)) != -1; ++i, ++count)
+        for (int i = 0; (i = s1.indexOf(s2, i)) != -1; i += step, ++count)
             ;
 
         return count;
     }
 
+    public static long countPalindromes(String s)
+    {
+        return SubstringAnalyzer.countPalindromes(s);
+    }
+
+    public static int [] countStrings(String s, String... patterns)
+    {
+        return MultiPatternMatcher.compile(patterns).countAll(s);
+    }
+
     public static String generateRandomText(Random random, int count, String sourceText)
     {
         char [] c = new char[count];
@@ -51,6 +105,15 @@ public class StringUtil {
         return String.valueOf(c);
     }
 
+    public static String generateRandomText(RandomGenerator.SplittableGenerator random, int count, String sourceText)
+    {
+        char [] c = new char[count];
+
+        ThreadUtil.forEachChunk(random, count, RANDOM_TEXT_CHUNK_SIZE, (generator, start, end) -> fillRandomText(generator, c, start, end, sourceText));
+
+        return String.valueOf(c);
+    }
+
     public static String generateRandomTextEN(Random random, int count)
     {
         return generateRandomText(random, count, ALL_LETTERS_EN);
@@ -61,6 +124,16 @@ public class StringUtil {
         return generateRandomText(random, count, ALL_LETTERS_TR);
     }
 
+    public static String generateRandomTextEN(RandomGenerator.SplittableGenerator random, int count)
+    {
+        return generateRandomText(random, count, ALL_LETTERS_EN);
+    }
+
+    public static String generateRandomTextTR(RandomGenerator.SplittableGenerator random, int count)
+    {
+        return generateRandomText(random, count, ALL_LETTERS_TR);
+    }
+
     public static String [] generateRandomTexts(Random random, int count, int origin, int bound, String sourceText)
     {
         String [] str = new String[count];
@@ -71,6 +144,32 @@ public class StringUtil {
         return str;
     }
 
+    public static String [] generateRandomTexts(RandomGenerator.SplittableGenerator random, int count, int origin, int bound, String sourceText)
+    {
+        String [] str = new String[count];
+
+        ThreadUtil.forEachChunk(random, count, RANDOM_TEXTS_CHUNK_SIZE, (generator, start, end) -> {
+            for (int i = start; i < end; ++i) {
+                char [] c = new char[generator.nextInt(origin, bound)];
+
+                fillRandomText(generator, c, 0, c.length, sourceText);
+                str[i] = String.valueOf(c);
+            }
+        });
+
+        return str;
+    }
+
+    public static String [] generateRandomTextsEN(RandomGenerator.SplittableGenerator random, int count, int origin, int bound)
+    {
+        return generateRandomTexts(random, count, origin, bound, ALL_LETTERS_EN);
+    }
+
+    public static String [] generateRandomTextsTR(RandomGenerator.SplittableGenerator random, int count, int origin, int bound)
+    {
+        return generateRandomTexts(random, count, origin, bound, ALL_LETTERS_TR);
+    }
+
     public static String [] generateRandomTextsEN(Random random, int count, int origin, int bound)
     {
         return generateRandomTexts(random, count, origin, bound, ALL_LETTERS_EN);
@@ -81,6 +180,11 @@ public class StringUtil {
         return generateRandomTexts(random, count, origin, bound, ALL_LETTERS_TR);
     }
 
+    public static boolean hasRepeatedSubstring(String s, int length)
+    {
+        return SubstringAnalyzer.findRepeated(s, length) != -1;
+    }
+
     public static boolean isPalindrome(String s)
     {
         int left = 0;
@@ -124,22 +228,52 @@ public class StringUtil {
 
     public static boolean isPangramEN(String s)
     {
-        return isPangram(s.toLowerCase(), LETTERS_EN);
+        return Alphabet.EN.isPangram(s);
+    }
+
+    public static boolean [] isPangramEN(String [] s)
+    {
+        return Alphabet.EN.isPangram(s);
     }
 
     public static boolean isPangramTR(String s)
     {
-        return isPangram(s.toLowerCase(), LETTERS_TR);
+        return Alphabet.TR.isPangram(s);
     }
 
-    public static String join(String [] s, String delimiter)
+    public static boolean [] isPangramTR(String [] s)
     {
-        StringBuilder sb = new StringBuilder();
+        return Alphabet.TR.isPangram(s);
+    }
+
+    // The output length is summed first so that the chars are written once into an exactly sized array
+    private static String joinSized(CharSequence [] s, String delimiter)
+    {
+        if (s.length == 0)
+            return "";
+
+        long length = (long)(s.length - 1) * delimiter.length();
+
+        for (CharSequence str : s)
+            length += str != null ? str.length() : 4;
+
+        if (length > MAX_ARRAY_LENGTH)
+            throw new IllegalArgumentException("Joined length is too large:" + length);
 
-        for (String str : s)
-            sb.append(str).append(delimiter);
+        char [] c = new char[(int)length];
+        int pos = copyChars(s[0] != null ? s[0] : "null", c, 0);
 
-        return sb.substring(0, sb.length() - delimiter.length());
+        for (int i = 1; i < s.length; ++i) {
+            pos = copyChars(delimiter, c, pos);
+            pos = copyChars(s[i] != null ? s[i] : "null", c, pos);
+        }
+
+        return new String(c);
+    }
+
+    public static String join(String [] s, String delimiter)
+    {
+        return joinSized(s, delimiter);
     }
 
     public static String join(String [] s, char delimiter)
@@ -147,11 +281,72 @@ public class StringUtil {
         return join(s, String.valueOf(delimiter));
     }
 
+    // A Collection is copied to an array so that both passes of the sized join see the same elements; any other
+    // iterable may be one-shot and is appended in a single pass
+    public static String join(Iterable<? extends CharSequence> s, String delimiter)
+    {
+        if (s instanceof Collection<? extends CharSequence> collection)
+            return joinSized(collection.toArray(new CharSequence[0]), delimiter);
+
+        StringBuilder sb = new StringBuilder();
+        boolean first = true;
+
+        for (CharSequence str : s) {
+            if (!first)
+                sb.append(delimiter);
+
+            sb.append(str);
+            first = false;
+        }
+
+        return sb.toString();
+    }
+
+    public static void join(Iterable<? extends CharSequence> s, String delimiter, Writer writer)
+    {
+        JoinWriter joinWriter = new JoinWriter(writer, delimiter);
+
+        for (CharSequence str : s)
+            joinWriter.add(str != null ? str : "null");
+
+        joinWriter.flush();
+    }
+
+    public static Collector<CharSequence, ?, String> joining(String delimiter)
+    {
+        return Collector.of(ArrayList<CharSequence>::new, List::add, (left, right) -> {
+            left.addAll(right);
+            return left;
+        }, list -> join(list, delimiter));
+    }
+
+    public static String longestPalindrome(String s)
+    {
+        int [] bounds = SubstringAnalyzer.longestPalindrome(s);
+
+        return s.substring(bounds[0], bounds[1]);
+    }
+
+    public static String longestRepeatedSubstring(String s)
+    {
+        int [] bounds = SubstringAnalyzer.longestRepeated(s);
+
+        return s.substring(bounds[0], bounds[1]);
+    }
+
     public static String padLeading(String s, int n, char ch)
     {
         int len = s.length();
 
-        return len < n ? String.valueOf(ch).repeat(n - len) + s : s;
+        if (len >= n)
+            return s;
+
+        char [] c = new char[n];
+
+        Arrays.fill(c, 0, n - len, ch);
+        s.getChars(0, len, c, n - len);
+
+        return new String(c);
     }
 
     public static String padLeading(String s, int n)
@@ -163,7 +358,15 @@ public class StringUtil {
     {
         int len = s.length();
 
-        return len < n ? s + String.valueOf(ch).repeat(n - len) : s;
+        if (len >= n)
+            return s;
+
+        char [] c = new char[n];
+
+        s.getChars(0, len, c, 0);
+        Arrays.fill(c, len, n, ch);
+
+        return new String(c);
     }
 
     public static String padTrailing(String s, int n)
@@ -183,23 +386,7 @@ public class StringUtil {
 
     public static String [] split(String s, String delimiters, boolean removeEmptyEntries)
     {
-        StringBuilder pattern = new StringBuilder("[");
-
-        for (int i = 0; i < delimiters.length(); ++i) {
-            char c = delimiters.charAt(i);
-
-            if (c == '[' || c == ']')
-                pattern.append('\\');
-
-            pattern.append(c);
-        }
-
-        pattern.append(']');
-
-        if (removeEmptyEntries)
-            pattern.append("+");
-
-        return s.split(pattern.toString());
+        return Splitter.cached(delimiters, removeEmptyEntries).split(s);
     }
 }
 
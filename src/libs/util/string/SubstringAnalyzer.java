@@ -0,0 +1,242 @@
+package libs.util.string;
+
+import java.util.Arrays;
+
+final class SubstringAnalyzer {
+    private static final long MODULUS = (1L << 61) - 1;
+    private static final long BASE = 0x1F3D5B79L;
+
+    private SubstringAnalyzer()
+    {
+    }
+
+    private static long multiplyMod(long a, long b)
+    {
+        long low = a * b;
+        long high = Math.multiplyHigh(a, b);
+        long result = (low & MODULUS) + ((low >>> 61) | (high << 3));
+
+        return result >= MODULUS ? result - MODULUS : result;
+    }
+
+    private static long addMod(long a, long b)
+    {
+        long result = a + b;
+
+        return result >= MODULUS ? result - MODULUS : result;
+    }
+
+    // Hashes of every window of the given length modulo 2^61 - 1
+    private static long [] windowHashes(String s, int length)
+    {
+        long [] hashes = new long[s.length() - length + 1];
+        long power = 1, hash = 0;
+
+        for (int i = 0; i < length; ++i) {
+            hash = addMod(multiplyMod(hash, BASE), s.charAt(i));
+            power = multiplyMod(power, BASE);
+        }
+
+        hashes[0] = hash;
+
+        for (int i = length; i < s.length(); ++i) {
+            hash = addMod(multiplyMod(hash, BASE), s.charAt(i));
+            hash = addMod(hash, MODULUS - multiplyMod(power, s.charAt(i - length)));
+            hashes[i - length + 1] = hash;
+        }
+
+        return hashes;
+    }
+
+    // Hashes that occur more than once, sorted and distinct
+    private static long [] repeatedHashes(long [] hashes)
+    {
+        long [] sorted = hashes.clone();
+        long [] repeated = new long[sorted.length / 2];
+        int count = 0;
+
+        Arrays.sort(sorted);
+
+        for (int i = 1; i < sorted.length; ++i)
+            if (sorted[i] == sorted[i - 1] && (count == 0 || repeated[count - 1] != sorted[i]))
+                repeated[count++] = sorted[i];
+
+        return Arrays.copyOf(repeated, count);
+    }
+
+    // Every window whose hash is shared is compared with each earlier window of the same hash, so a collision
+    // between different substrings can cost time but can not hide a real repeat
+    static int findRepeated(String s, int length)
+    {
+        if (length < 0)
+            throw new IllegalArgumentException("Length can not be negative:" + length);
+
+        if (length == 0)
+            return 0;
+
+        if (length >= s.length())
+            return -1;
+
+        long [] hashes = windowHashes(s, length);
+        long [] repeated = repeatedHashes(hashes);
+
+        if (repeated.length == 0)
+            return -1;
+
+        int [] groupStarts = new int[repeated.length + 1];
+        int [] groups = new int[hashes.length];
+
+        for (int i = 0; i < hashes.length; ++i) {
+            int group = Arrays.binarySearch(repeated, hashes[i]);
+
+            groups[i] = group;
+
+            if (group >= 0)
+                ++groupStarts[group + 1];
+        }
+
+        for (int g = 0; g < repeated.length; ++g)
+            groupStarts[g + 1] += groupStarts[g];
+
+        int [] members = new int[groupStarts[repeated.length]];
+        int [] next = Arrays.copyOf(groupStarts, repeated.length);
+
+        for (int i = 0; i < hashes.length; ++i)
+            if (groups[i] >= 0)
+                members[next[groups[i]]++] = i;
+
+        for (int g = 0; g < repeated.length; ++g)
+            for (int j = groupStarts[g] + 1; j < groupStarts[g + 1]; ++j)
+                for (int i = groupStarts[g]; i < j; ++i)
+                    if (s.regionMatches(members[i], s, members[j], length))
+                        return members[i];
+
+        return -1;
+    }
+
+    // Returns {start, end} of the longest substring that occurs at least twice; repetition is monotone in the
+    // length, so the length is found by galloping from 1 and then binary searching, which favours short answers
+    static int [] longestRepeated(String s)
+    {
+        int low = 0, high = s.length() - 1, start = 0;
+
+        for (int length = 1; length <= high; length *= 2) {
+            int index = findRepeated(s, length);
+
+            if (index == -1) {
+                high = length - 1;
+                break;
+            }
+
+            low = length;
+            start = index;
+        }
+
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            int index = findRepeated(s, mid);
+
+            if (index != -1) {
+                low = mid;
+                start = index;
+            }
+            else
+                high = mid - 1;
+        }
+
+        return new int[] {start, start + low};
+    }
+
+    static int normalizeLetters(CharSequence s, char [] letters, int [] positions)
+    {
+        int count = 0;
+
+        for (int i = 0; i < s.length(); ++i) {
+            char c = s.charAt(i);
+
+            if (Character.isLetter(c)) {
+                letters[count] = Character.toLowerCase(c);
+                positions[count++] = i;
+            }
+        }
+
+        return count;
+    }
+
+    // Manacher radii: odd[i] palindromes are centred on i, even[i] palindromes are centred between i - 1 and i
+    static void palindromeRadii(char [] c, int n, int [] odd, int [] even)
+    {
+        for (int i = 0, left = 0, right = -1; i < n; ++i) {
+            int k = i > right ? 1 : Math.min(odd[left + right - i], right - i + 1);
+
+            while (i - k >= 0 && i + k < n && c[i - k] == c[i + k])
+                ++k;
+
+            odd[i] = k;
+
+            if (i + k - 1 > right) {
+                left = i - k + 1;
+                right = i + k - 1;
+            }
+        }
+
+        for (int i = 0, left = 0, right = -1; i < n; ++i) {
+            int k = i > right ? 0 : Math.min(even[left + right - i + 1], right - i + 1);
+
+            while (i - k - 1 >= 0 && i + k < n && c[i - k - 1] == c[i + k])
+                ++k;
+
+            even[i] = k;
+
+            if (i + k - 1 > right) {
+                left = i - k;
+                right = i + k - 1;
+            }
+        }
+    }
+
+    static long countPalindromes(CharSequence s)
+    {
+        char [] letters = new char[s.length()];
+        int n = normalizeLetters(s, letters, new int[s.length()]);
+        int [] odd = new int[n], even = new int[n];
+        long count = 0;
+
+        palindromeRadii(letters, n, odd, even);
+
+        for (int i = 0; i < n; ++i)
+            count += odd[i] + even[i];
+
+        return count;
+    }
+
+    // Returns {start, end} in the original text, spanning from the first to the last letter of the palindrome
+    static int [] longestPalindrome(CharSequence s)
+    {
+        char [] letters = new char[s.length()];
+        int [] positions = new int[s.length()];
+        int n = normalizeLetters(s, letters, positions);
+
+        if (n == 0)
+            return new int[] {0, 0};
+
+        int [] odd = new int[n], even = new int[n];
+        int bestStart = 0, bestLength = 1;
+
+        palindromeRadii(letters, n, odd, even);
+
+        for (int i = 0; i < n; ++i) {
+            if (2 * odd[i] - 1 > bestLength) {
+                bestLength = 2 * odd[i] - 1;
+                bestStart = i - odd[i] + 1;
+            }
+
+            if (2 * even[i] > bestLength) {
+                bestLength = 2 * even[i];
+                bestStart = i - even[i];
+            }
+        }
+
+        return new int[] {positions[bestStart], positions[bestStart + bestLength - 1] + 1};
+    }
+}
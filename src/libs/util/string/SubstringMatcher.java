@@ -0,0 +1,82 @@
+package libs.util.string;
+
+public class SubstringMatcher {
+    private static final int SHIFT_TABLE_SIZE = 256;
+    private static final int SHIFT_TABLE_MASK = SHIFT_TABLE_SIZE - 1;
+    private final char [] m_pattern;
+    private final int [] m_shifts = new int[SHIFT_TABLE_SIZE];
+
+    // Boyer-Moore-Horspool with the bad character table indexed by the low byte; chars sharing a slot keep the
+    // smallest shift, so the table stays conservative
+    private SubstringMatcher(String pattern)
+    {
+        int m = pattern.length();
+
+        m_pattern = pattern.toCharArray();
+
+        for (int i = 0; i < SHIFT_TABLE_SIZE; ++i)
+            m_shifts[i] = m;
+
+        for (int i = 0; i < m - 1; ++i)
+            m_shifts[m_pattern[i] & SHIFT_TABLE_MASK] = m - 1 - i;
+    }
+
+    public static SubstringMatcher compile(String pattern)
+    {
+        if (pattern.isEmpty())
+            throw new IllegalArgumentException("Pattern can not be empty");
+
+        return new SubstringMatcher(pattern);
+    }
+
+    public int count(CharSequence text)
+    {
+        return count(text, true);
+    }
+
+    public int count(CharSequence text, boolean overlapping)
+    {
+        int count = 0;
+        int step = overlapping ? 1 : m_pattern.length;
+
+        for (int i = 0; (i = indexOf(text, i)) != -1; i += step)
+            ++count;
+
+        return count;
+    }
+
+    public String getPattern()
+    {
+        return String.valueOf(m_pattern);
+    }
+
+    public int indexOf(CharSequence text)
+    {
+        return indexOf(text, 0);
+    }
+
+    public int indexOf(CharSequence text, int fromIndex)
+    {
+        int m = m_pattern.length;
+        int last = text.length() - m;
+        char lastChar = m_pattern[m - 1];
+
+        for (int i = Math.max(fromIndex, 0); i <= last; ) {
+            char c = text.charAt(i + m - 1);
+
+            if (c == lastChar) {
+                int j = m - 2;
+
+                while (j >= 0 && text.charAt(i + j) == m_pattern[j])
+                    --j;
+
+                if (j < 0)
+                    return i;
+            }
+
+            i += m_shifts[c & SHIFT_TABLE_MASK];
+        }
+
+        return -1;
+    }
+}
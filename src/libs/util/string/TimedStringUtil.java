@@ -0,0 +1,77 @@
+package libs.util.string;
+
+import libs.util.thread.LatencyHistogram;
+import libs.util.thread.MetricsRegistry;
+
+import java.util.Random;
+
+public class TimedStringUtil {
+    private TimedStringUtil() {}
+
+    private static final LatencyHistogram CAPITALIZE = MetricsRegistry.getDefault().histogram("StringUtil.capitalize");
+    private static final LatencyHistogram CHANGE_CASE = MetricsRegistry.getDefault().histogram("StringUtil.changeCase");
+    private static final LatencyHistogram COUNT_STRING = MetricsRegistry.getDefault().histogram("StringUtil.countString");
+    private static final LatencyHistogram GENERATE_RANDOM_TEXT_EN = MetricsRegistry.getDefault().histogram("StringUtil.generateRandomTextEN");
+    private static final LatencyHistogram IS_PANGRAM_EN = MetricsRegistry.getDefault().histogram("StringUtil.isPangramEN");
+    private static final LatencyHistogram IS_PANGRAM_TR = MetricsRegistry.getDefault().histogram("StringUtil.isPangramTR");
+    private static final LatencyHistogram JOIN = MetricsRegistry.getDefault().histogram("StringUtil.join");
+    private static final LatencyHistogram PAD_LEADING = MetricsRegistry.getDefault().histogram("StringUtil.padLeading");
+    private static final LatencyHistogram PAD_TRAILING = MetricsRegistry.getDefault().histogram("StringUtil.padTrailing");
+    private static final LatencyHistogram REVERSE = MetricsRegistry.getDefault().histogram("StringUtil.reverse");
+    private static final LatencyHistogram SPLIT = MetricsRegistry.getDefault().histogram("StringUtil.split");
+
+    public static String capitalize(String s)
+    {
+        return CAPITALIZE.time(() -> StringUtil.capitalize(s));
+    }
+
+    public static String changeCase(String s)
+    {
+        return CHANGE_CASE.time(() -> StringUtil.changeCase(s));
+    }
+
+    public static int countString(String s1, String s2)
+    {
+        return COUNT_STRING.time(() -> StringUtil.countString(s1, s2));
+    }
+
+    public static String generateRandomTextEN(Random random, int count)
+    {
+        return GENERATE_RANDOM_TEXT_EN.time(() -> StringUtil.generateRandomTextEN(random, count));
+    }
+
+    public static boolean isPangramEN(String s)
+    {
+        return IS_PANGRAM_EN.time(() -> StringUtil.isPangramEN(s));
+    }
+
+    public static boolean isPangramTR(String s)
+    {
+        return IS_PANGRAM_TR.time(() -> StringUtil.isPangramTR(s));
+    }
+
+    public static String join(String [] s, String delimiter)
+    {
+        return JOIN.time(() -> StringUtil.join(s, delimiter));
+    }
+
+    public static String padLeading(String s, int n, char ch)
+    {
+        return PAD_LEADING.time(() -> StringUtil.padLeading(s, n, ch));
+    }
+
+    public static String padTrailing(String s, int n, char ch)
+    {
+        return PAD_TRAILING.time(() -> StringUtil.padTrailing(s, n, ch));
+    }
+
+    public static String reverse(String s)
+    {
+        return REVERSE.time(() -> StringUtil.reverse(s));
+    }
+
+    public static String [] split(String s, String delimiters)
+    {
+        return SPLIT.time(() -> StringUtil.split(s, delimiters));
+    }
+}
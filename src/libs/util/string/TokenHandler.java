@@ -0,0 +1,6 @@
+package libs.util.string;
+
+@FunctionalInterface
+public interface TokenHandler {
+    void onToken(CharSequence source, int start, int end);
+}
@@ -0,0 +1,49 @@
+package libs.util.string.test;
+
+import libs.util.string.ChannelTokenizer;
+import libs.util.string.Splitter;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ChannelTokenizerTest {
+    private static boolean check(String name, String s, Splitter splitter)
+    {
+        List<String> tokens = new ArrayList<>();
+        byte [] bytes = s.getBytes(StandardCharsets.UTF_8);
+
+        try (ChannelTokenizer tokenizer = ChannelTokenizer.open(Channels.newChannel(new ByteArrayInputStream(bytes)), splitter)) {
+            tokenizer.forEach((source, start, end) -> tokens.add(source.subSequence(start, end).toString()));
+        }
+
+        boolean ok = Arrays.equals(splitter.split(s), tokens.toArray());
+
+        System.out.printf("%-40s %s%n", name, ok ? "OK" : "FAILED");
+
+        return ok;
+    }
+
+    private static void run()
+    {
+        Splitter space = Splitter.of(" ");
+        boolean ok = check("empty input", "", space);
+
+        ok &= check("single token", "abc", space);
+        ok &= check("empty tokens", " a  b ", Splitter.of(" ", false));
+        ok &= check("multi byte chars", "çağ ışık öğün", space);
+        ok &= check("token longer than the buffer", "a".repeat(200_000) + " b", space);
+        ok &= check("surrogate pair at the buffer end", "a".repeat(65535) + "😀" + "b c", space);
+        ok &= check("surrogate pairs across refills", "😀".repeat(100_000) + " x", space);
+
+        System.out.println(ok ? "All tests passed" : "Some tests failed");
+    }
+
+    public static void main(String[] args)
+    {
+        run();
+    }
+}
@@ -0,0 +1,81 @@
+package libs.util.string.test;
+
+import libs.util.benchmark.BenchmarkRunner;
+import libs.util.string.Alignment;
+import libs.util.string.ColumnLayout;
+import libs.util.string.FixedWidthWriter;
+import libs.util.string.StringUtil;
+
+import java.io.OutputStream;
+import java.util.Random;
+
+public class FixedWidthWriterBenchmark {
+    private static final int COLUMN_COUNT = 20;
+    private static final int ROW_POOL_SIZE = 1_024;
+
+    private static ColumnLayout createLayout()
+    {
+        ColumnLayout layout = ColumnLayout.create();
+
+        for (int i = 0; i < COLUMN_COUNT; ++i)
+            if (i % 3 == 0)
+                layout.add(16, Alignment.LEFT);
+            else if (i % 3 == 1)
+                layout.add(11, Alignment.RIGHT, '0');
+            else
+                layout.add(14, Alignment.RIGHT);
+
+        return layout;
+    }
+
+    // Each operation writes one 20-column row, so the reported ops/s is rows/second
+    private static void run(BenchmarkRunner runner)
+    {
+        Random random = runner.newRandom();
+        String [] names = StringUtil.generateRandomTextsTR(random, ROW_POOL_SIZE, 3, 16);
+        int [] ints = random.ints(ROW_POOL_SIZE).toArray();
+        double [] doubles = random.doubles(ROW_POOL_SIZE, -1e6, 1e6).toArray();
+        ColumnLayout layout = createLayout();
+        int [] row = new int[1];
+
+        runner.run("FixedWidthWriter.row", COLUMN_COUNT, () -> new FixedWidthWriter(OutputStream.nullOutputStream(), layout), writer -> {
+            int r = row[0]++ & (ROW_POOL_SIZE - 1);
+
+            for (int i = 0; i < COLUMN_COUNT; ++i)
+                if (i % 3 == 0)
+                    writer.put(names[r]);
+                else if (i % 3 == 1)
+                    writer.put(ints[r]);
+                else
+                    writer.put(doubles[r], 2);
+
+            writer.endRow();
+
+            return writer.getRowCount();
+        });
+
+        runner.run("StringUtil.padLeading/padTrailing row", COLUMN_COUNT, () -> new StringBuilder(), sb -> {
+            int r = row[0]++ & (ROW_POOL_SIZE - 1);
+
+            sb.setLength(0);
+
+            for (int i = 0; i < COLUMN_COUNT; ++i)
+                if (i % 3 == 0)
+                    sb.append(StringUtil.padTrailing(names[r], 16));
+                else if (i % 3 == 1)
+                    sb.append(StringUtil.padLeading(String.valueOf(ints[r]), 11, '0'));
+                else
+                    sb.append(StringUtil.padLeading("%.2f".formatted(doubles[r]), 14));
+
+            return sb.append('\n').length();
+        });
+    }
+
+    public static void main(String[] args)
+    {
+        BenchmarkRunner runner = BenchmarkRunner.fromArgs(args);
+
+        run(runner);
+        runner.finish();
+    }
+}
@@ -0,0 +1,42 @@
+package libs.util.string.test;
+
+import libs.util.benchmark.BenchmarkRunner;
+import libs.util.string.StringUtil;
+
+public class StringUtilBenchmark {
+    private static final int [] SIZES = {100, 10_000, 1_000_000};
+    private static final int TEXT_COUNT = 1_000;
+
+    private static void run(BenchmarkRunner runner)
+    {
+        for (int size : SIZES) {
+            String text = StringUtil.generateRandomTextEN(runner.newRandom(), size);
+            String sentence = String.join(" ", StringUtil.generateRandomTextsEN(runner.newRandom(), Math.max(1, size / 8), 3, 12));
+            String [] words = sentence.split(" ");
+
+            runner.run("StringUtil.generateRandomTextEN", size, runner::newRandom, r -> StringUtil.generateRandomTextEN(r, size).length());
+            runner.run("StringUtil.capitalize", size, () -> text, s -> StringUtil.capitalize(s).length());
+            runner.run("StringUtil.changeCase", size, () -> text, s -> StringUtil.changeCase(s).length());
+            runner.run("StringUtil.countString", size, () -> text, s -> StringUtil.countString(s, "ab"));
+            runner.run("StringUtil.isPalindrome", size, () -> text, s -> StringUtil.isPalindrome(s) ? 1 : 0);
+            runner.run("StringUtil.isPangramEN", size, () -> text, s -> StringUtil.isPangramEN(s) ? 1 : 0);
+            runner.run("StringUtil.isPangramTR", size, () -> text, s -> StringUtil.isPangramTR(s) ? 1 : 0);
+            runner.run("StringUtil.reverse", size, () -> text, s -> StringUtil.reverse(s).length());
+            runner.run("StringUtil.padLeading", size, () -> text, s -> StringUtil.padLeading(s, 2 * size, '0').length());
+            runner.run("StringUtil.padTrailing", size, () -> text, s -> StringUtil.padTrailing(s, 2 * size, '0').length());
+            runner.run("StringUtil.split", size, () -> sentence, s -> StringUtil.split(s, " ,.").length);
+            runner.run("StringUtil.join", size, () -> words, w -> StringUtil.join(w, ' ').length());
+        }
+
+        runner.run("StringUtil.generateRandomTextsTR", TEXT_COUNT, runner::newRandom,
+                r -> StringUtil.generateRandomTextsTR(r, TEXT_COUNT, 5, 50).length);
+    }
+
+    public static void main(String[] args)
+    {
+        BenchmarkRunner runner = BenchmarkRunner.fromArgs(args);
+
+        run(runner);
+        runner.finish();
+    }
+}
@@ -0,0 +1,32 @@
+package libs.util.thread;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class Counter {
+    private final LongAdder m_value = new LongAdder();
+
+    public void add(long delta)
+    {
+        m_value.add(delta);
+    }
+
+    public long get()
+    {
+        return m_value.sum();
+    }
+
+    public void increment()
+    {
+        m_value.increment();
+    }
+
+    public void reset()
+    {
+        m_value.reset();
+    }
+
+    public String toString()
+    {
+        return Long.toString(get());
+    }
+}
@@ -0,0 +1,6 @@
+package libs.util.thread;
+
+@FunctionalInterface
+public interface EventHandler<E> {
+    void onEvent(E event, long sequence, boolean endOfBatch);
+}
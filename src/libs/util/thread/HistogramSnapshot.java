@@ -0,0 +1,75 @@
+package libs.util.thread;
+
+import java.util.Locale;
+
+public class HistogramSnapshot {
+    private final long [] m_counts;
+    private final long m_count;
+    private final long m_sum;
+    private final long m_min;
+    private final long m_max;
+
+    HistogramSnapshot(long [] counts, long sum, long min, long max)
+    {
+        long count = 0;
+
+        for (long c : counts)
+            count += c;
+
+        m_counts = counts;
+        m_count = count;
+        m_sum = sum;
+        m_min = count == 0 ? 0 : min;
+        m_max = count == 0 ? 0 : max;
+    }
+
+    public long getCount()
+    {
+        return m_count;
+    }
+
+    public long getMax()
+    {
+        return m_max;
+    }
+
+    public double getMean()
+    {
+        return m_count == 0 ? 0 : (double)m_sum / m_count;
+    }
+
+    public long getMin()
+    {
+        return m_min;
+    }
+
+    public long getSum()
+    {
+        return m_sum;
+    }
+
+    // Returns the highest value that falls in the same bucket as the value at the given percentile, capped at the max
+    public long getValueAtPercentile(double percentile)
+    {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("Percentile must be in [0, 100]:" + percentile);
+
+        if (m_count == 0)
+            return 0;
+
+        long rank = Math.max(1, (long)Math.ceil(percentile / 100 * m_count));
+        long seen = 0;
+
+        for (int i = 0; i < m_counts.length; ++i)
+            if ((seen += m_counts[i]) >= rank)
+                return Math.max(m_min, Math.min(m_max, LatencyHistogram.bucketUpperBound(i)));
+
+        return m_max;
+    }
+
+    public String toString()
+    {
+        return String.format(Locale.ROOT, "count=%d min=%d mean=%.1f p50=%d p90=%d p99=%d p999=%d max=%d", m_count, m_min, getMean(),
+                getValueAtPercentile(50), getValueAtPercentile(90), getValueAtPercentile(99), getValueAtPercentile(99.9), m_max);
+    }
+}
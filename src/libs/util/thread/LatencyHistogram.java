@@ -0,0 +1,117 @@
+package libs.util.thread;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+    private static final int MAX_STRIPE_COUNT = 8;
+    private final AtomicLongArray m_counts;
+    private final int m_stripeMask;
+    private final LongAdder m_sum = new LongAdder();
+    private final LongAccumulator m_min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator m_max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    // Recording threads are spread over a few stripes of the bucket array so that they rarely hit the same counters
+    public LatencyHistogram()
+    {
+        int stripeCount = Math.min(MAX_STRIPE_COUNT, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+
+        m_counts = new AtomicLongArray(stripeCount * BUCKET_COUNT);
+        m_stripeMask = stripeCount - 1;
+    }
+
+    // Log-linear buckets as in HdrHistogram: values below SUB_BUCKET_COUNT are exact, larger values keep their top
+    // SUB_BUCKET_BITS + 1 bits, so the relative error stays below 1 / SUB_BUCKET_COUNT
+    static int bucketIndex(long value)
+    {
+        if (value < SUB_BUCKET_COUNT)
+            return (int)value;
+
+        int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS - 1;
+
+        return (shift + 1) * SUB_BUCKET_COUNT + (int)(value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    static long bucketLowerBound(int index)
+    {
+        if (index < SUB_BUCKET_COUNT)
+            return index;
+
+        int shift = index / SUB_BUCKET_COUNT - 1;
+
+        return (long)(index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT) << shift;
+    }
+
+    static long bucketUpperBound(int index)
+    {
+        return index + 1 == BUCKET_COUNT ? Long.MAX_VALUE : bucketLowerBound(index + 1) - 1;
+    }
+
+    private int stripeOffset()
+    {
+        return (int)((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 32) & m_stripeMask;
+    }
+
+    public void record(long value)
+    {
+        value = Math.max(value, 0);
+        m_counts.getAndIncrement(stripeOffset() * BUCKET_COUNT + bucketIndex(value));
+        m_sum.add(value);
+        m_min.accumulate(value);
+        m_max.accumulate(value);
+    }
+
+    public void recordSince(long startNanos)
+    {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public void reset()
+    {
+        for (int i = 0; i < m_counts.length(); ++i)
+            m_counts.set(i, 0);
+
+        m_sum.reset();
+        m_min.reset();
+        m_max.reset();
+    }
+
+    public HistogramSnapshot snapshot()
+    {
+        long [] counts = new long[BUCKET_COUNT];
+
+        for (int i = 0; i < m_counts.length(); ++i)
+            counts[i % BUCKET_COUNT] += m_counts.get(i);
+
+        return new HistogramSnapshot(counts, m_sum.sum(), m_min.get(), m_max.get());
+    }
+
+    public void time(Runnable action)
+    {
+        long start = System.nanoTime();
+
+        try {
+            action.run();
+        }
+        finally {
+            recordSince(start);
+        }
+    }
+
+    public <T> T time(Supplier<T> action)
+    {
+        long start = System.nanoTime();
+
+        try {
+            return action.get();
+        }
+        finally {
+            recordSince(start);
+        }
+    }
+}
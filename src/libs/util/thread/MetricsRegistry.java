@@ -0,0 +1,106 @@
+package libs.util.thread;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+public class MetricsRegistry {
+    private static final MetricsRegistry DEFAULT = new MetricsRegistry();
+    private final Map<String, Object> m_metrics = new ConcurrentHashMap<>();
+
+    private <T> T getOrCreate(String name, Class<T> type, Supplier<T> factory)
+    {
+        Object metric = m_metrics.computeIfAbsent(name, key -> factory.get());
+
+        if (!type.isInstance(metric))
+            throw new IllegalArgumentException("Metric is already registered with another type:" + name);
+
+        return type.cast(metric);
+    }
+
+    public static MetricsRegistry getDefault()
+    {
+        return DEFAULT;
+    }
+
+    public Counter counter(String name)
+    {
+        return getOrCreate(name, Counter.class, Counter::new);
+    }
+
+    // Text export: one "name type value" line per metric, sorted by name
+    public void exportText(Appendable out)
+    {
+        try {
+            for (Map.Entry<String, Object> entry : snapshot().entrySet()) {
+                Object value = entry.getValue();
+                String type = value instanceof HistogramSnapshot ? "histogram" : value instanceof Double ? "gauge" : "counter";
+
+                out.append(entry.getKey()).append(' ').append(type).append(' ')
+                        .append(value instanceof Double d ? String.format(Locale.ROOT, "%.6g", d) : value.toString()).append('\n');
+            }
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public String exportText()
+    {
+        StringBuilder sb = new StringBuilder();
+
+        exportText(sb);
+
+        return sb.toString();
+    }
+
+    public void gauge(String name, DoubleSupplier supplier)
+    {
+        Object previous = m_metrics.putIfAbsent(name, supplier);
+
+        if (previous != null && previous != supplier)
+            throw new IllegalArgumentException("Metric is already registered:" + name);
+    }
+
+    public LatencyHistogram histogram(String name)
+    {
+        return getOrCreate(name, LatencyHistogram.class, LatencyHistogram::new);
+    }
+
+    public void remove(String name)
+    {
+        m_metrics.remove(name);
+    }
+
+    public void reset()
+    {
+        for (Object metric : m_metrics.values())
+            if (metric instanceof Counter counter)
+                counter.reset();
+            else if (metric instanceof LatencyHistogram histogram)
+                histogram.reset();
+    }
+
+    // Values are Long for counters, Double for gauges and HistogramSnapshot for histograms
+    public SortedMap<String, Object> snapshot()
+    {
+        SortedMap<String, Object> result = new TreeMap<>();
+
+        m_metrics.forEach((name, metric) -> {
+            if (metric instanceof Counter counter)
+                result.put(name, counter.get());
+            else if (metric instanceof LatencyHistogram histogram)
+                result.put(name, histogram.snapshot());
+            else
+                result.put(name, ((DoubleSupplier)metric).getAsDouble());
+        });
+
+        return result;
+    }
+}
@@ -0,0 +1,151 @@
+package libs.util.thread;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class MpmcQueue<E> {
+    private static final VarHandle SLOT_SEQUENCES = MethodHandles.arrayElementVarHandle(long [].class);
+    private final Object [] m_elements;
+    private final long [] m_slotSequences;
+    private final int m_mask;
+    private final WaitStrategy m_waitStrategy;
+    private final Sequence m_enqueuePosition = new Sequence(0);
+    private final Sequence m_dequeuePosition = new Sequence(0);
+
+    // Every slot carries a sequence telling whose turn it is: position p may write when it equals p and may read
+    // when it equals p + 1, so producers and consumers only contend on their own position counter
+    public MpmcQueue(int capacity, WaitStrategy waitStrategy)
+    {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1)
+            throw new IllegalArgumentException("Capacity must be a power of two greater than 1:" + capacity);
+
+        m_elements = new Object[capacity];
+        m_slotSequences = new long[capacity];
+        m_mask = capacity - 1;
+        m_waitStrategy = waitStrategy;
+
+        for (int i = 0; i < capacity; ++i)
+            SLOT_SEQUENCES.setRelease(m_slotSequences, i, (long)i);
+    }
+
+    public MpmcQueue(int capacity)
+    {
+        this(capacity, WaitStrategy.YIELDING);
+    }
+
+    public int capacity()
+    {
+        return m_elements.length;
+    }
+
+    public int drain(Consumer<? super E> consumer, int limit)
+    {
+        int count = 0;
+
+        for (E e; count < limit && (e = poll()) != null; ++count)
+            consumer.accept(e);
+
+        return count;
+    }
+
+    public boolean isEmpty()
+    {
+        return size() == 0;
+    }
+
+    public boolean offer(E e)
+    {
+        Objects.requireNonNull(e);
+
+        long position = m_enqueuePosition.get();
+        int index;
+
+        while (true) {
+            index = (int)(position & m_mask);
+
+            long difference = (long)SLOT_SEQUENCES.getAcquire(m_slotSequences, index) - position;
+
+            if (difference == 0) {
+                if (m_enqueuePosition.compareAndSet(position, position + 1))
+                    break;
+
+                position = m_enqueuePosition.get();
+            }
+            else if (difference < 0)
+                return false;
+            else
+                position = m_enqueuePosition.get();
+        }
+
+        m_elements[index] = e;
+        SLOT_SEQUENCES.setRelease(m_slotSequences, index, position + 1);
+
+        return true;
+    }
+
+    public int offerAll(E [] items, int fromIndex, int toIndex)
+    {
+        int i = fromIndex;
+
+        while (i < toIndex && offer(items[i]))
+            ++i;
+
+        return i - fromIndex;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E poll()
+    {
+        long position = m_dequeuePosition.get();
+        int index;
+
+        while (true) {
+            index = (int)(position & m_mask);
+
+            long difference = (long)SLOT_SEQUENCES.getAcquire(m_slotSequences, index) - (position + 1);
+
+            if (difference == 0) {
+                if (m_dequeuePosition.compareAndSet(position, position + 1))
+                    break;
+
+                position = m_dequeuePosition.get();
+            }
+            else if (difference < 0)
+                return null;
+            else
+                position = m_dequeuePosition.get();
+        }
+
+        E e = (E)m_elements[index];
+
+        m_elements[index] = null;
+        SLOT_SEQUENCES.setRelease(m_slotSequences, index, position + m_mask + 1);
+
+        return e;
+    }
+
+    public void put(E e)
+    {
+        for (int attempt = 0; !offer(e); ++attempt)
+            m_waitStrategy.idle(attempt);
+    }
+
+    public int size()
+    {
+        long size = m_enqueuePosition.get() - m_dequeuePosition.get();
+
+        return (int)Math.max(0, Math.min(size, m_elements.length));
+    }
+
+    public E take()
+    {
+        E e;
+
+        for (int attempt = 0; (e = poll()) == null; ++attempt)
+            m_waitStrategy.idle(attempt);
+
+        return e;
+    }
+}
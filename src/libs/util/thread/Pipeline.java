@@ -0,0 +1,121 @@
+package libs.util.thread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public class Pipeline<T> {
+    private static final int DEFAULT_BATCH_SIZE = 256;
+    private static final int DEFAULT_QUEUE_CAPACITY = 16;
+    private final List<PipelineStage> m_stages;
+    private final int m_batchSize;
+    private final int m_queueCapacity;
+
+    private Pipeline(List<PipelineStage> stages, int batchSize, int queueCapacity)
+    {
+        m_stages = stages;
+        m_batchSize = batchSize;
+        m_queueCapacity = queueCapacity;
+    }
+
+    private static <T> Pipeline<T> createSource(String name, Consumer<Consumer<Object>> source)
+    {
+        List<PipelineStage> stages = new ArrayList<>();
+
+        stages.add(new PipelineStage(name, 1, (ignored, emitter) -> source.accept(emitter)));
+
+        return new Pipeline<>(stages, DEFAULT_BATCH_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    private <R> Pipeline<R> append(PipelineStage stage)
+    {
+        List<PipelineStage> stages = new ArrayList<>(m_stages);
+
+        stages.add(stage);
+
+        return new Pipeline<>(stages, m_batchSize, m_queueCapacity);
+    }
+
+    // The source runs on a single worker
+    public static <T> Pipeline<T> from(String name, Iterable<? extends T> source)
+    {
+        return createSource(name, source::forEach);
+    }
+
+    public static <T> Pipeline<T> generate(String name, long count, Supplier<? extends T> generator)
+    {
+        if (count < 0)
+            throw new IllegalArgumentException("Count must be non-negative:" + count);
+
+        return createSource(name, emitter -> {
+            for (long i = 0; i < count; ++i)
+                emitter.accept(generator.get());
+        });
+    }
+
+    public Pipeline<T> filter(String name, int workerCount, Predicate<? super T> predicate)
+    {
+        return flatMap(name, workerCount, (item, emitter) -> {
+            if (predicate.test(item))
+                emitter.accept(item);
+        });
+    }
+
+    // A stage with more than one worker does not keep the order of its items
+    @SuppressWarnings("unchecked")
+    public <R> Pipeline<R> flatMap(String name, int workerCount, BiConsumer<? super T, Consumer<? super R>> mapper)
+    {
+        return append(new PipelineStage(name, workerCount, (item, emitter) -> mapper.accept((T)item, emitter)));
+    }
+
+    public <R> Pipeline<R> map(String name, int workerCount, Function<? super T, ? extends R> mapper)
+    {
+        return flatMap(name, workerCount, (item, emitter) -> emitter.accept(mapper.apply(item)));
+    }
+
+    public List<StageStats> run(String name, int workerCount, Consumer<? super T> sink) throws InterruptedException
+    {
+        PipelineRun run = start(name, workerCount, sink);
+
+        run.await();
+
+        return run.getStageStats();
+    }
+
+    // Every stage gets its own workers; a full queue blocks the stage writing to it until the next stage catches up.
+    // The sink, like any stage function, is called from workerCount threads at once and must be thread safe when
+    // workerCount is greater than one
+    @SuppressWarnings("unchecked")
+    public PipelineRun start(String name, int workerCount, Consumer<? super T> sink)
+    {
+        PipelineStage [] stages = new PipelineStage[m_stages.size() + 1];
+
+        for (int i = 0; i < m_stages.size(); ++i)
+            stages[i] = m_stages.get(i).copy();
+
+        stages[stages.length - 1] = new PipelineStage(name, workerCount, (item, ignored) -> sink.accept((T)item));
+
+        return new PipelineRun(stages, m_batchSize, m_queueCapacity, ThreadUtil.newTaskExecutor());
+    }
+
+    public Pipeline<T> withBatchSize(int batchSize)
+    {
+        if (batchSize < 1)
+            throw new IllegalArgumentException("Batch size must be positive:" + batchSize);
+
+        return new Pipeline<>(m_stages, batchSize, m_queueCapacity);
+    }
+
+    // Capacity is counted in batches and must be a power of two
+    public Pipeline<T> withQueueCapacity(int queueCapacity)
+    {
+        if (queueCapacity < 2 || Integer.bitCount(queueCapacity) != 1)
+            throw new IllegalArgumentException("Queue capacity must be a power of two greater than 1:" + queueCapacity);
+
+        return new Pipeline<>(m_stages, m_batchSize, queueCapacity);
+    }
+}
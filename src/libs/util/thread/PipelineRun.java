@@ -0,0 +1,243 @@
+package libs.util.thread;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+public class PipelineRun {
+    private static final Object [] END = new Object[0];
+    private final PipelineStage [] m_stages;
+    private final int m_batchSize;
+    private final ExecutorService m_executor;
+    private final CountDownLatch m_done = new CountDownLatch(1);
+    private final AtomicInteger m_remainingWorkerCount;
+    private final AtomicReference<Throwable> m_failure = new AtomicReference<>();
+    private final long m_startNanos = System.nanoTime();
+    private volatile long m_endNanos;
+    private volatile boolean m_cancelled;
+
+    PipelineRun(PipelineStage [] stages, int batchSize, int queueCapacity, ExecutorService executor)
+    {
+        int workerCount = 0;
+
+        for (int i = 0; i < stages.length; ++i) {
+            if (i != 0)
+                stages[i].m_input = new MpmcQueue<>(queueCapacity, WaitStrategy.PARKING);
+
+            workerCount += stages[i].m_workerCount;
+        }
+
+        m_stages = stages;
+        m_batchSize = batchSize;
+        m_executor = executor;
+        m_remainingWorkerCount = new AtomicInteger(workerCount);
+
+        for (int i = 0; i < stages.length; ++i)
+            for (int w = 0; w < stages[i].m_workerCount; ++w) {
+                int index = i;
+
+                executor.execute(() -> runWorker(index));
+            }
+    }
+
+    // Thrown only by the run's own queue operations, so a CancellationException from a stage function is a failure
+    @SuppressWarnings("serial")
+    private static final class RunCancelledException extends RuntimeException {
+        RunCancelledException()
+        {
+            super(null, null, false, false);
+        }
+    }
+
+    private final class Emitter implements Consumer<Object> {
+        private final MpmcQueue<Object []> m_queue;
+        private final LongAdder m_emittedCount;
+        private Object [] m_buffer = new Object[m_batchSize];
+        private int m_count;
+
+        Emitter(MpmcQueue<Object []> queue, LongAdder emittedCount)
+        {
+            m_queue = queue;
+            m_emittedCount = emittedCount;
+        }
+
+        public void accept(Object item)
+        {
+            m_buffer[m_count++] = item;
+
+            if (m_count == m_buffer.length)
+                flush();
+        }
+
+        void flush()
+        {
+            if (m_count == 0)
+                return;
+
+            if (m_count == m_buffer.length) {
+                put(m_queue, m_buffer);
+                m_buffer = new Object[m_batchSize];
+            }
+            else
+                put(m_queue, Arrays.copyOf(m_buffer, m_count));
+
+            if (m_emittedCount != null)
+                m_emittedCount.add(m_count);
+
+            m_count = 0;
+        }
+    }
+
+    private void checkCancelled()
+    {
+        if (m_cancelled)
+            throw new RunCancelledException();
+    }
+
+    private void put(MpmcQueue<Object []> queue, Object [] batch)
+    {
+        for (int attempt = 0; !queue.offer(batch); ++attempt) {
+            checkCancelled();
+            WaitStrategy.PARKING.idle(attempt);
+        }
+    }
+
+    private Object [] take(MpmcQueue<Object []> queue)
+    {
+        Object [] batch;
+
+        for (int attempt = 0; (batch = queue.poll()) == null; ++attempt) {
+            checkCancelled();
+            WaitStrategy.PARKING.idle(attempt);
+        }
+
+        return batch;
+    }
+
+    // The last worker of a stage to finish sends one end marker to every worker of the next stage. A worker that
+    // fails cancels the run instead, which releases the workers waiting on its queues
+    private void runWorker(int index)
+    {
+        PipelineStage stage = m_stages[index];
+        boolean last = index == m_stages.length - 1;
+        boolean completed = false;
+
+        try {
+            Emitter emitter = last ? null : new Emitter(m_stages[index + 1].m_input, index == 0 ? stage.m_processedCount : null);
+
+            if (index == 0)
+                stage.m_processor.accept(null, emitter);
+            else
+                for (Object [] batch; (batch = take(stage.m_input)) != END; ) {
+                    for (Object item : batch)
+                        stage.m_processor.accept(item, emitter);
+
+                    stage.m_processedCount.add(batch.length);
+                }
+
+            if (emitter != null)
+                emitter.flush();
+
+            completed = true;
+
+            if (stage.m_activeWorkerCount.decrementAndGet() == 0 && !last)
+                for (int w = 0; w < m_stages[index + 1].m_workerCount; ++w)
+                    put(m_stages[index + 1].m_input, END);
+        }
+        catch (RunCancelledException ignore) {
+        }
+        catch (Throwable ex) {
+            m_failure.compareAndSet(null, ex);
+            m_cancelled = true;
+        }
+        finally {
+            if (!completed)
+                stage.m_activeWorkerCount.decrementAndGet();
+
+            if (m_remainingWorkerCount.decrementAndGet() == 0) {
+                m_endNanos = System.nanoTime();
+                m_executor.shutdown();
+                m_done.countDown();
+            }
+        }
+    }
+
+    private void rethrowFailure()
+    {
+        Throwable ex = m_failure.get();
+
+        if (ex == null)
+            return;
+
+        if (ex instanceof RuntimeException runtimeException)
+            throw runtimeException;
+
+        if (ex instanceof Error error)
+            throw error;
+
+        throw new IllegalStateException(ex);
+    }
+
+    // Rethrows the first failure of any stage; a cancelled run that did not fail completes normally
+    public void await() throws InterruptedException
+    {
+        m_done.await();
+        rethrowFailure();
+    }
+
+    public boolean await(Duration timeout) throws InterruptedException
+    {
+        if (!m_done.await(timeout.toNanos(), TimeUnit.NANOSECONDS))
+            return false;
+
+        rethrowFailure();
+
+        return true;
+    }
+
+    // Workers stop at their next queue operation; items already taken by a stage are finished first
+    public void cancel()
+    {
+        m_cancelled = true;
+    }
+
+    public List<StageStats> getStageStats()
+    {
+        long end = m_endNanos;
+        double seconds = Math.max((end != 0 ? end : System.nanoTime()) - m_startNanos, 1) / 1e9;
+        List<StageStats> result = new ArrayList<>(m_stages.length);
+
+        for (PipelineStage stage : m_stages) {
+            long processedCount = stage.m_processedCount.sum();
+            int queuedBatchCount = stage.m_input != null ? stage.m_input.size() : 0;
+
+            result.add(new StageStats(stage.m_name, stage.m_workerCount, processedCount, queuedBatchCount, processedCount / seconds));
+        }
+
+        return result;
+    }
+
+    public boolean isDone()
+    {
+        return m_done.getCount() == 0;
+    }
+
+    // Adds "<prefix>.<stage>.processed" and "<prefix>.<stage>.queued" gauges to the registry
+    public void register(MetricsRegistry registry, String prefix)
+    {
+        for (PipelineStage stage : m_stages) {
+            String name = prefix + "." + stage.m_name;
+
+            registry.gauge(name + ".processed", () -> stage.m_processedCount.sum());
+            registry.gauge(name + ".queued", () -> stage.m_input != null ? stage.m_input.size() : 0);
+        }
+    }
+}
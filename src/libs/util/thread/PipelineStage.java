@@ -0,0 +1,31 @@
+package libs.util.thread;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+final class PipelineStage {
+    final String m_name;
+    final int m_workerCount;
+    final BiConsumer<Object, Consumer<Object>> m_processor;
+    final LongAdder m_processedCount = new LongAdder();
+    final AtomicInteger m_activeWorkerCount;
+    MpmcQueue<Object []> m_input;
+
+    PipelineStage(String name, int workerCount, BiConsumer<Object, Consumer<Object>> processor)
+    {
+        if (workerCount < 1)
+            throw new IllegalArgumentException("Worker count must be positive:" + workerCount);
+
+        m_name = name;
+        m_workerCount = workerCount;
+        m_processor = processor;
+        m_activeWorkerCount = new AtomicInteger(workerCount);
+    }
+
+    PipelineStage copy()
+    {
+        return new PipelineStage(m_name, m_workerCount, m_processor);
+    }
+}
@@ -0,0 +1,8 @@
+package libs.util.thread;
+
+import java.util.random.RandomGenerator;
+
+@FunctionalInterface
+public interface RandomChunkHandler {
+    void onChunk(RandomGenerator random, int start, int end);
+}
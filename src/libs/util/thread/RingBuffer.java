@@ -0,0 +1,203 @@
+package libs.util.thread;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+public class RingBuffer<E> {
+    private static final VarHandle AVAILABLE_ROUNDS = MethodHandles.arrayElementVarHandle(int [].class);
+    private final Object [] m_entries;
+    private final int m_mask;
+    private final int m_indexShift;
+    private final boolean m_multiProducer;
+    private final WaitStrategy m_waitStrategy;
+    private final int [] m_availableRounds;
+    private final Sequence m_cursor = new Sequence(-1);
+    private final Sequence m_gatingCache = new Sequence(-1);
+    private volatile Sequence [] m_gatingSequences = new Sequence[0];
+    private long m_nextValue = -1;
+
+    // Entries are preallocated and reused; single producer mode publishes by moving the cursor, multi producer mode
+    // claims by moving the cursor and publishes by stamping each slot with the round of its sequence
+    private RingBuffer(int bufferSize, Supplier<E> factory, WaitStrategy waitStrategy, boolean multiProducer)
+    {
+        if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1)
+            throw new IllegalArgumentException("Buffer size must be a power of two:" + bufferSize);
+
+        m_entries = new Object[bufferSize];
+        m_mask = bufferSize - 1;
+        m_indexShift = Integer.numberOfTrailingZeros(bufferSize);
+        m_multiProducer = multiProducer;
+        m_waitStrategy = waitStrategy;
+        m_availableRounds = multiProducer ? new int[bufferSize] : null;
+
+        for (int i = 0; i < bufferSize; ++i)
+            m_entries[i] = factory.get();
+
+        if (multiProducer)
+            Arrays.fill(m_availableRounds, -1);
+    }
+
+    private long minimumGatingSequence(long defaultValue)
+    {
+        long minimum = defaultValue;
+
+        for (Sequence sequence : m_gatingSequences)
+            minimum = Math.min(minimum, sequence.get());
+
+        return minimum;
+    }
+
+    private boolean isAvailable(long sequence)
+    {
+        return (int)AVAILABLE_ROUNDS.getAcquire(m_availableRounds, (int)(sequence & m_mask)) == (int)(sequence >>> m_indexShift);
+    }
+
+    private long claim(int n, boolean wait)
+    {
+        if (n < 1 || n > m_entries.length)
+            throw new IllegalArgumentException("Claim size must be in [1, " + m_entries.length + "]:" + n);
+
+        if (!m_multiProducer) {
+            long next = m_nextValue + n;
+            long wrapPoint = next - m_entries.length;
+
+            if (wrapPoint > m_gatingCache.get()) {
+                long minimum;
+
+                for (int attempt = 0; wrapPoint > (minimum = minimumGatingSequence(m_nextValue)); ++attempt)
+                    if (wait)
+                        m_waitStrategy.idle(attempt);
+                    else
+                        return -1;
+
+                m_gatingCache.set(minimum);
+            }
+
+            return m_nextValue = next;
+        }
+
+        for (int attempt = 0; ; ) {
+            long current = m_cursor.get();
+            long next = current + n;
+            long wrapPoint = next - m_entries.length;
+
+            if (wrapPoint > m_gatingCache.get()) {
+                long minimum = minimumGatingSequence(current);
+
+                if (wrapPoint > minimum) {
+                    if (!wait)
+                        return -1;
+
+                    m_waitStrategy.idle(attempt++);
+                    continue;
+                }
+
+                m_gatingCache.set(minimum);
+            }
+            else if (m_cursor.compareAndSet(current, next))
+                return next;
+        }
+    }
+
+    long getHighestPublished(long lowerBound)
+    {
+        long cursor = m_cursor.get();
+
+        if (!m_multiProducer)
+            return cursor;
+
+        for (long sequence = lowerBound; sequence <= cursor; ++sequence)
+            if (!isAvailable(sequence))
+                return sequence - 1;
+
+        return cursor;
+    }
+
+    WaitStrategy getWaitStrategy()
+    {
+        return m_waitStrategy;
+    }
+
+    public static <E> RingBuffer<E> createMultiProducer(int bufferSize, Supplier<E> factory, WaitStrategy waitStrategy)
+    {
+        return new RingBuffer<>(bufferSize, factory, waitStrategy, true);
+    }
+
+    public static <E> RingBuffer<E> createSingleProducer(int bufferSize, Supplier<E> factory, WaitStrategy waitStrategy)
+    {
+        return new RingBuffer<>(bufferSize, factory, waitStrategy, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(long sequence)
+    {
+        return (E)m_entries[(int)(sequence & m_mask)];
+    }
+
+    public int getBufferSize()
+    {
+        return m_entries.length;
+    }
+
+    public long getCursor()
+    {
+        return m_cursor.get();
+    }
+
+    // Readers see events published after they were created; producers never overwrite an event a reader has not passed
+    public synchronized RingBufferReader<E> newReader()
+    {
+        Sequence sequence = new Sequence(m_cursor.get());
+        Sequence [] gatingSequences = Arrays.copyOf(m_gatingSequences, m_gatingSequences.length + 1);
+
+        gatingSequences[gatingSequences.length - 1] = sequence;
+        m_gatingSequences = gatingSequences;
+
+        return new RingBufferReader<>(this, sequence);
+    }
+
+    public long next()
+    {
+        return claim(1, true);
+    }
+
+    public long next(int n)
+    {
+        return claim(n, true);
+    }
+
+    public void publish(long sequence)
+    {
+        publish(sequence, sequence);
+    }
+
+    public void publish(long lowSequence, long highSequence)
+    {
+        if (!m_multiProducer) {
+            m_cursor.set(highSequence);
+            return;
+        }
+
+        for (long sequence = lowSequence; sequence <= highSequence; ++sequence)
+            AVAILABLE_ROUNDS.setRelease(m_availableRounds, (int)(sequence & m_mask), (int)(sequence >>> m_indexShift));
+    }
+
+    public synchronized void removeReader(RingBufferReader<E> reader)
+    {
+        Sequence [] gatingSequences = Arrays.stream(m_gatingSequences).filter(s -> s != reader.getSequence()).toArray(Sequence[]::new);
+
+        m_gatingSequences = gatingSequences;
+    }
+
+    public long tryNext()
+    {
+        return claim(1, false);
+    }
+
+    public long tryNext(int n)
+    {
+        return claim(n, false);
+    }
+}
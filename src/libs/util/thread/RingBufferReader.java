@@ -0,0 +1,49 @@
+package libs.util.thread;
+
+public class RingBufferReader<E> {
+    private final RingBuffer<E> m_ringBuffer;
+    private final Sequence m_sequence;
+
+    RingBufferReader(RingBuffer<E> ringBuffer, Sequence sequence)
+    {
+        m_ringBuffer = ringBuffer;
+        m_sequence = sequence;
+    }
+
+    Sequence getSequence()
+    {
+        return m_sequence;
+    }
+
+    public long getPosition()
+    {
+        return m_sequence.get();
+    }
+
+    // Hands every published event past the reader to the handler as one batch and then releases the slots at once
+    public int poll(EventHandler<? super E> handler)
+    {
+        long next = m_sequence.get() + 1;
+        long available = m_ringBuffer.getHighestPublished(next);
+
+        if (available < next)
+            return 0;
+
+        for (long sequence = next; sequence <= available; ++sequence)
+            handler.onEvent(m_ringBuffer.get(sequence), sequence, sequence == available);
+
+        m_sequence.set(available);
+
+        return (int)(available - next + 1);
+    }
+
+    public int take(EventHandler<? super E> handler)
+    {
+        int count;
+
+        for (int attempt = 0; (count = poll(handler)) == 0; ++attempt)
+            m_ringBuffer.getWaitStrategy().idle(attempt);
+
+        return count;
+    }
+}
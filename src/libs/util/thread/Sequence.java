@@ -0,0 +1,60 @@
+package libs.util.thread;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+class SequenceLeftPadding {
+    protected long m_p1, m_p2, m_p3, m_p4, m_p5, m_p6, m_p7;
+}
+
+class SequenceValue extends SequenceLeftPadding {
+    protected volatile long m_value;
+}
+
+class SequenceRightPadding extends SequenceValue {
+    protected long m_p9, m_p10, m_p11, m_p12, m_p13, m_p14, m_p15;
+}
+
+// The padding superclasses keep the value on a cache line of its own, since field order within one class is up to the JVM
+public final class Sequence extends SequenceRightPadding {
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "m_value", long.class);
+        }
+        catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    public Sequence(long initialValue)
+    {
+        VALUE.setRelease(this, initialValue);
+    }
+
+    public boolean compareAndSet(long expected, long value)
+    {
+        return VALUE.compareAndSet(this, expected, value);
+    }
+
+    public long get()
+    {
+        return (long)VALUE.getAcquire(this);
+    }
+
+    public long getAndAdd(long delta)
+    {
+        return (long)VALUE.getAndAdd(this, delta);
+    }
+
+    public void set(long value)
+    {
+        VALUE.setRelease(this, value);
+    }
+
+    public String toString()
+    {
+        return Long.toString(get());
+    }
+}
@@ -0,0 +1,51 @@
+package libs.util.thread;
+
+import java.util.Locale;
+
+public class StageStats {
+    private final String m_name;
+    private final int m_workerCount;
+    private final long m_processedCount;
+    private final int m_queuedBatchCount;
+    private final double m_itemsPerSecond;
+
+    StageStats(String name, int workerCount, long processedCount, int queuedBatchCount, double itemsPerSecond)
+    {
+        m_name = name;
+        m_workerCount = workerCount;
+        m_processedCount = processedCount;
+        m_queuedBatchCount = queuedBatchCount;
+        m_itemsPerSecond = itemsPerSecond;
+    }
+
+    public double getItemsPerSecond()
+    {
+        return m_itemsPerSecond;
+    }
+
+    public String getName()
+    {
+        return m_name;
+    }
+
+    public long getProcessedCount()
+    {
+        return m_processedCount;
+    }
+
+    public int getQueuedBatchCount()
+    {
+        return m_queuedBatchCount;
+    }
+
+    public int getWorkerCount()
+    {
+        return m_workerCount;
+    }
+
+    public String toString()
+    {
+        return String.format(Locale.ROOT, "%-20s workers=%d processed=%d queued=%d items/s=%.1f", m_name, m_workerCount, m_processedCount,
+                m_queuedBatchCount, m_itemsPerSecond);
+    }
+}
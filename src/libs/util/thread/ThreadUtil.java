@@ -1,5 +1,287 @@
 package libs.util.thread;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
 public class ThreadUtil {
-    
+    private ThreadUtil() {}
+
+    private static final MethodHandle VIRTUAL_EXECUTOR_FACTORY = findVirtualExecutorFactory();
+    private static final String PINNED_EVENT_NAME = "jdk.VirtualThreadPinned";
+    // The pinning event ships with the final virtual threads; asking the recorder for its event types would start JFR
+    private static final boolean PINNING_EVENT_SUPPORTED = Runtime.version().feature() >= 21;
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static ScheduledExecutorService detectorScheduler;
+
+    private static MethodHandle findVirtualExecutorFactory()
+    {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+        }
+        catch (NoSuchMethodException | IllegalAccessException ex) {
+            return null;
+        }
+    }
+
+    private static Thread newDaemonThread(Runnable runnable, String name)
+    {
+        Thread thread = new Thread(runnable, name);
+
+        thread.setDaemon(true);
+
+        return thread;
+    }
+
+    private static synchronized ScheduledExecutorService getDetectorScheduler()
+    {
+        if (detectorScheduler == null)
+            detectorScheduler = Executors.newSingleThreadScheduledExecutor(r -> newDaemonThread(r, "monitor-blocked-detector"));
+
+        return detectorScheduler;
+    }
+
+    private static void rethrow(Throwable ex)
+    {
+        if (ex instanceof RuntimeException runtimeException)
+            throw runtimeException;
+
+        if (ex instanceof Error error)
+            throw error;
+
+        throw new IllegalStateException(ex);
+    }
+
+    // Heuristic only: platform threads that are blocked or waiting while they hold a monitor. ThreadMXBean does not
+    // report virtual threads, and a thread blocked in I/O inside synchronized shows as RUNNABLE, so this can not
+    // detect pinning; use startPinningDetector on runtimes that record pinning events
+    public static List<ThreadInfo> findMonitorBlockedThreads()
+    {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        List<ThreadInfo> result = new ArrayList<>();
+
+        for (ThreadInfo info : threadBean.dumpAllThreads(threadBean.isObjectMonitorUsageSupported(), false)) {
+            Thread.State state = info.getThreadState();
+
+            if (state != Thread.State.RUNNABLE && state != Thread.State.NEW && state != Thread.State.TERMINATED
+                    && info.getLockedMonitors().length != 0)
+                result.add(info);
+        }
+
+        return result;
+    }
+
+    // One generator is split off per fixed-size chunk, in chunk order, so the output does not depend on thread count
+    public static void forEachChunk(RandomGenerator.SplittableGenerator random, int count, int chunkSize, RandomChunkHandler handler)
+    {
+        if (chunkSize < 1)
+            throw new IllegalArgumentException("Chunk size must be positive:" + chunkSize);
+
+        RandomGenerator [] generators = new RandomGenerator[(int)(((long)count + chunkSize - 1) / chunkSize)];
+
+        for (int i = 0; i < generators.length; ++i)
+            generators[i] = random.split();
+
+        IntStream.range(0, generators.length).parallel().forEach(chunk -> {
+            int start = chunk * chunkSize;
+
+            handler.onChunk(generators[chunk], start, start + Math.min(chunkSize, count - start));
+        });
+    }
+
+    public static <T> void forEach(T [] items, int parallelism, Consumer<? super T> action) throws InterruptedException
+    {
+        forEach(Arrays.asList(items), parallelism, action);
+    }
+
+    public static <T> void forEach(List<? extends T> items, int parallelism, Consumer<? super T> action) throws InterruptedException
+    {
+        ExecutorService executor = newTaskExecutor();
+
+        try {
+            forEach(executor, items, parallelism, action);
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    // At most parallelism workers pull indexes from a shared counter; the first failure stops the others from
+    // taking new items and is rethrown once every worker has finished
+    public static <T> void forEach(ExecutorService executor, List<? extends T> items, int parallelism, Consumer<? super T> action) throws InterruptedException
+    {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Parallelism must be positive:" + parallelism);
+
+        int size = items.size();
+        AtomicInteger next = new AtomicInteger();
+        List<Future<?>> workers = new ArrayList<>();
+
+        for (int w = 0; w < Math.min(parallelism, size); ++w)
+            workers.add(executor.submit(() -> {
+                try {
+                    for (int i; (i = next.getAndIncrement()) < size; )
+                        action.accept(items.get(i));
+                }
+                catch (Throwable ex) {
+                    next.set(size);
+                    throw ex;
+                }
+            }));
+
+        Throwable failure = null;
+
+        try {
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                }
+                catch (ExecutionException ex) {
+                    if (failure == null)
+                        failure = ex.getCause();
+                }
+            }
+        }
+        catch (InterruptedException ex) {
+            next.set(size);
+            workers.forEach(worker -> worker.cancel(true));
+            throw ex;
+        }
+
+        if (failure != null)
+            rethrow(failure);
+    }
+
+    public static <T> List<T> invokeAll(Collection<? extends Callable<T>> tasks, Duration timeout)
+            throws InterruptedException, ExecutionException, TimeoutException
+    {
+        ExecutorService executor = newTaskExecutor();
+
+        try {
+            return invokeAll(executor, tasks, timeout);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Results come back in task order; the first failure or the deadline cancels every task that is still running
+    public static <T> List<T> invokeAll(ExecutorService executor, Collection<? extends Callable<T>> tasks, Duration timeout)
+            throws InterruptedException, ExecutionException, TimeoutException
+    {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        CompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+
+        try {
+            for (Callable<T> task : tasks)
+                futures.add(completionService.submit(task));
+
+            for (int i = 0; i < futures.size(); ++i) {
+                Future<T> future = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+                if (future == null)
+                    throw new TimeoutException("Tasks did not complete within " + timeout);
+
+                future.get();
+            }
+
+            List<T> results = new ArrayList<>(futures.size());
+
+            for (Future<T> future : futures)
+                results.add(future.get());
+
+            return results;
+        }
+        finally {
+            for (Future<T> future : futures)
+                future.cancel(true);
+        }
+    }
+
+    public static boolean isPinningEventSupported()
+    {
+        return PINNING_EVENT_SUPPORTED;
+    }
+
+    public static boolean isVirtualThreadSupported()
+    {
+        return VIRTUAL_EXECUTOR_FACTORY != null;
+    }
+
+    // Virtual threads are used when the runtime provides them, otherwise every task gets a daemon platform thread
+    public static ExecutorService newTaskExecutor()
+    {
+        if (VIRTUAL_EXECUTOR_FACTORY != null) {
+            try {
+                return (ExecutorService)VIRTUAL_EXECUTOR_FACTORY.invokeExact();
+            }
+            catch (UnsupportedOperationException ignore) {
+            }
+            catch (Throwable ex) {
+                rethrow(ex);
+            }
+        }
+
+        return Executors.newCachedThreadPool(r -> newDaemonThread(r, "task-" + THREAD_COUNT.incrementAndGet()));
+    }
+
+    public static ScheduledFuture<?> startMonitorBlockedDetector(Duration period, Consumer<ThreadInfo> listener)
+    {
+        long periodNanos = period.toNanos();
+
+        return getDetectorScheduler().scheduleAtFixedRate(() -> findMonitorBlockedThreads().forEach(listener), periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // Stops every monitor-blocked detector; a later start creates a new scheduler
+    public static synchronized void shutdownDetectors()
+    {
+        if (detectorScheduler == null)
+            return;
+
+        detectorScheduler.shutdownNow();
+        detectorScheduler = null;
+    }
+
+    // Streams the JFR events of virtual threads pinned to their carrier for longer than the threshold; closing the
+    // returned stream stops the detector
+    public static RecordingStream startPinningDetector(Duration threshold, Consumer<RecordedEvent> listener)
+    {
+        if (!PINNING_EVENT_SUPPORTED)
+            throw new UnsupportedOperationException("Runtime does not record " + PINNED_EVENT_NAME);
+
+        RecordingStream stream = new RecordingStream();
+
+        stream.enable(PINNED_EVENT_NAME).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT_NAME, listener::accept);
+        stream.startAsync();
+
+        return stream;
+    }
 }
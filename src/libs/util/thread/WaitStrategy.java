@@ -0,0 +1,22 @@
+package libs.util.thread;
+
+import java.util.concurrent.locks.LockSupport;
+
+public enum WaitStrategy {
+    BUSY_SPIN, YIELDING, PARKING;
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long PARK_NANOS = 1_000;
+
+    // Called with a growing attempt count while a thread waits for a slot or an event
+    public void idle(int attempt)
+    {
+        if (this == BUSY_SPIN || attempt < SPIN_TRIES)
+            Thread.onSpinWait();
+        else if (this == YIELDING || attempt < SPIN_TRIES + YIELD_TRIES)
+            Thread.yield();
+        else
+            LockSupport.parkNanos(PARK_NANOS);
+    }
+}
@@ -0,0 +1,76 @@
+package libs.util.thread.test;
+
+import libs.util.array.ArrayUtil;
+import libs.util.string.StringUtil;
+import libs.util.thread.Pipeline;
+import libs.util.thread.StageStats;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class PipelineTest {
+    private static final String SOURCE_TEXT = "abcdefgh  ";
+    private static final int TEXT_COUNT = 100_000;
+    private static final int MAX_TEXT_LENGTH = 80;
+    private static final long SEED = 1;
+
+    private static String nextText(Random random)
+    {
+        return StringUtil.generateRandomText(random, random.nextInt(1, MAX_TEXT_LENGTH), SOURCE_TEXT);
+    }
+
+    // The same chain on the calling thread: generate, split, then histogramData over the word lengths
+    private static int [] runSequential()
+    {
+        Random random = new Random(SEED);
+        int [] lengths = new int[TEXT_COUNT * MAX_TEXT_LENGTH];
+        int count = 0;
+
+        for (int i = 0; i < TEXT_COUNT; ++i)
+            for (String word : StringUtil.split(nextText(random), " ", true))
+                lengths[count++] = word.length();
+
+        return ArrayUtil.histogramData(Arrays.copyOf(lengths, count), MAX_TEXT_LENGTH);
+    }
+
+    // The sink has two workers, so it counts into an atomic array
+    private static int [] runPipeline(int workerCount) throws InterruptedException
+    {
+        Random random = new Random(SEED);
+        AtomicIntegerArray counts = new AtomicIntegerArray(MAX_TEXT_LENGTH + 1);
+        List<StageStats> stats = Pipeline.generate("generate", TEXT_COUNT, () -> nextText(random))
+                .<String>flatMap("split", workerCount, (text, emitter) -> {
+                    for (String word : StringUtil.split(text, " ", true))
+                        emitter.accept(word);
+                })
+                .map("length", workerCount, String::length)
+                .run("aggregate", 2, counts::incrementAndGet);
+
+        stats.forEach(System.out::println);
+
+        int [] result = new int[counts.length()];
+
+        for (int i = 0; i < result.length; ++i)
+            result[i] = counts.get(i);
+
+        return result;
+    }
+
+    private static void run() throws InterruptedException
+    {
+        int [] expected = runSequential();
+
+        for (int workerCount = 1; workerCount <= 4; workerCount *= 2) {
+            System.out.printf("Worker count:%d%n", workerCount);
+            System.out.println(Arrays.equals(expected, runPipeline(workerCount)) ? "Counts match" : "Counts differ");
+            System.out.println("----------------------------------------");
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException
+    {
+        run();
+    }
+}
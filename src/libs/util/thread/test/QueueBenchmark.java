@@ -0,0 +1,165 @@
+package libs.util.thread.test;
+
+import libs.util.benchmark.BenchmarkRunner;
+import libs.util.thread.MpmcQueue;
+import libs.util.thread.RingBuffer;
+import libs.util.thread.RingBufferReader;
+import libs.util.thread.WaitStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
+
+public class QueueBenchmark {
+    private static final int CAPACITY = 1 << 10;
+    private static final int TRANSFER_COUNT = 1 << 18;
+    private static final int BATCH_SIZE = 16;
+
+    private static class Event {
+        long m_value;
+    }
+
+    @FunctionalInterface
+    private interface Worker {
+        void run() throws InterruptedException;
+    }
+
+    @FunctionalInterface
+    private interface QueueWriter {
+        void put(long value) throws InterruptedException;
+    }
+
+    @FunctionalInterface
+    private interface QueueReader {
+        long take() throws InterruptedException;
+    }
+
+    private static void runAll(List<Worker> workers)
+    {
+        List<Thread> threads = new ArrayList<>();
+
+        for (Worker worker : workers)
+            threads.add(new Thread(() -> {
+                try {
+                    worker.run();
+                }
+                catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+
+        threads.forEach(Thread::start);
+
+        try {
+            for (Thread thread : threads)
+                thread.join();
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Every operation moves TRANSFER_COUNT values from the producers to the consumers and returns their sum
+    private static long transfer(QueueWriter writer, QueueReader reader, int producerCount, int consumerCount)
+    {
+        long [] sums = new long[consumerCount];
+        List<Worker> workers = new ArrayList<>();
+
+        for (int p = 0; p < producerCount; ++p) {
+            int first = p;
+
+            workers.add(() -> {
+                for (long i = first; i < TRANSFER_COUNT; i += producerCount)
+                    writer.put(i);
+            });
+        }
+
+        for (int c = 0; c < consumerCount; ++c) {
+            int consumer = c;
+
+            workers.add(() -> {
+                for (long i = consumer; i < TRANSFER_COUNT; i += consumerCount)
+                    sums[consumer] += reader.take();
+            });
+        }
+
+        runAll(workers);
+
+        long total = 0;
+
+        for (long sum : sums)
+            total += sum;
+
+        return total;
+    }
+
+    // Producers claim and publish BATCH_SIZE slots at a time; a single reader consumes every event
+    private static long transfer(RingBuffer<Event> ringBuffer, int producerCount)
+    {
+        RingBufferReader<Event> reader = ringBuffer.newReader();
+        long [] sum = new long[1];
+        long [] count = new long[1];
+        List<Worker> workers = new ArrayList<>();
+        int batchCount = TRANSFER_COUNT / BATCH_SIZE;
+
+        for (int p = 0; p < producerCount; ++p) {
+            int first = p;
+
+            workers.add(() -> {
+                for (int batch = first; batch < batchCount; batch += producerCount) {
+                    long high = ringBuffer.next(BATCH_SIZE);
+                    long low = high - BATCH_SIZE + 1;
+
+                    for (long s = low; s <= high; ++s)
+                        ringBuffer.get(s).m_value = (long)batch * BATCH_SIZE + (s - low);
+
+                    ringBuffer.publish(low, high);
+                }
+            });
+        }
+
+        workers.add(() -> {
+            while (count[0] < TRANSFER_COUNT)
+                reader.take((event, sequence, endOfBatch) -> {
+                    sum[0] += event.m_value;
+                    ++count[0];
+                });
+        });
+
+        runAll(workers);
+        ringBuffer.removeReader(reader);
+
+        return sum[0];
+    }
+
+    private static void run(BenchmarkRunner runner)
+    {
+        Supplier<Event> factory = Event::new;
+
+        for (int threads : new int[] {1, 2}) {
+            String suffix = " %dP%dC".formatted(threads, threads);
+
+            runner.run("ArrayBlockingQueue" + suffix, TRANSFER_COUNT, () -> new ArrayBlockingQueue<Long>(CAPACITY),
+                    q -> transfer(q::put, q::take, threads, threads));
+            runner.run("LinkedBlockingQueue" + suffix, TRANSFER_COUNT, () -> new LinkedBlockingQueue<Long>(CAPACITY),
+                    q -> transfer(q::put, q::take, threads, threads));
+            runner.run("MpmcQueue" + suffix, TRANSFER_COUNT, () -> new MpmcQueue<Long>(CAPACITY, WaitStrategy.YIELDING),
+                    q -> transfer(q::put, q::take, threads, threads));
+        }
+
+        runner.run("RingBuffer single producer 1P1C", TRANSFER_COUNT,
+                () -> RingBuffer.createSingleProducer(CAPACITY, factory, WaitStrategy.YIELDING), rb -> transfer(rb, 1));
+        runner.run("RingBuffer multi producer 2P1C", TRANSFER_COUNT,
+                () -> RingBuffer.createMultiProducer(CAPACITY, factory, WaitStrategy.YIELDING), rb -> transfer(rb, 2));
+    }
+
+    public static void main(String[] args)
+    {
+        BenchmarkRunner runner = BenchmarkRunner.fromArgs(args);
+
+        run(runner);
+        runner.finish();
+    }
+}